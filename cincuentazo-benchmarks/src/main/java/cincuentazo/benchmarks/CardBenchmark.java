@@ -0,0 +1,46 @@
+package cincuentazo.benchmarks;
+
+import cincuentazo.model.card.Card;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Card#calculateEffect(int)} over the whole deck.
+ * Low sums take the Ace's 10-point branch, sums above 40 its 1-point branch.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class CardBenchmark {
+
+    @Param({"0", "41", "50"})
+    int tableSum;
+
+    private final List<Card> cards = Card.standardDeck();
+
+    /**
+     * Effect of each of the 52 cards at the current sum.
+     */
+    @Benchmark
+    public int calculateEffectWholeDeck() {
+        int total = 0;
+        for (int i = 0; i < cards.size(); i++) {
+            total += cards.get(i).calculateEffect(tableSum);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,91 @@
+package cincuentazo.benchmarks;
+
+import cincuentazo.model.deck.Deck;
+import cincuentazo.model.deck.IDeck;
+import cincuentazo.model.deck.RingDeck;
+import cincuentazo.model.exceptions.EmptyDeckException;
+import cincuentazo.model.random.RandomSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+
+/**
+ * Measures deck construction, shuffling and the draw / return-to-bottom cycle
+ * for both deck implementations and for a full or partly drawn deck.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class DeckBenchmark {
+
+    private static final long SEED = 20251017L;
+
+    /**
+     * {@code STACK} is the original {@link Deck}, {@code RING} the {@link RingDeck}.
+     */
+    @Param({"STACK", "RING"})
+    String implementation;
+
+    /**
+     * Number of cards left in the deck while measuring.
+     */
+    @Param({"52", "20"})
+    int remaining;
+
+    private RandomGenerator random;
+    private IDeck deck;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws EmptyDeckException {
+        random = RandomSource.forIndex(SEED, 0);
+        deck = newDeck();
+        while (deck.remainingCards() > remaining) {
+            deck.drawCard();
+        }
+    }
+
+    private IDeck newDeck() {
+        return "RING".equals(implementation) ? new RingDeck(random) : new Deck(random);
+    }
+
+    /**
+     * Builds and shuffles a full deck.
+     */
+    @Benchmark
+    public IDeck construct() {
+        return newDeck();
+    }
+
+    /**
+     * Shuffles the deck in place.
+     */
+    @Benchmark
+    public IDeck shuffle() {
+        deck.shuffle();
+        return deck;
+    }
+
+    /**
+     * Draws the top card and puts it back at the bottom, keeping the deck size constant.
+     */
+    @Benchmark
+    public int drawAndAddToBottom() throws EmptyDeckException {
+        deck.addCardToBottom(deck.drawCard());
+        return deck.remainingCards();
+    }
+}
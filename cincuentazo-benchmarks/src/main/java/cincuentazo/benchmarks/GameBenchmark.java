@@ -0,0 +1,128 @@
+package cincuentazo.benchmarks;
+
+import cincuentazo.model.card.Card;
+import cincuentazo.model.exceptions.EmptyDeckException;
+import cincuentazo.model.exceptions.InvalidMoveException;
+import cincuentazo.model.game.Game;
+import cincuentazo.model.game.GameSimulator;
+import cincuentazo.model.log.GameLogger;
+import cincuentazo.model.log.LogLevel;
+import cincuentazo.model.player.Player;
+import cincuentazo.model.random.RandomSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures one whole turn (play, draw and pass) and a whole machine-only game
+ * from deal to winner.
+ * Games are built from fixed seeds, so every run plays the same sequence of games.
+ * With {@code log=INFO} the game logger prints to a null stream, so the cost of
+ * enqueueing each message is measured; {@code log=OFF} measures the engine alone.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class GameBenchmark {
+
+    private static final long SEED = 20251017L;
+
+    @Param({"2", "4", "8"})
+    int machines;
+
+    @Param({"OFF", "INFO"})
+    LogLevel log;
+
+    private PrintStream sink;
+    private LogLevel level;
+    private long gameIndex;
+    private Game game;
+
+    @Setup(Level.Trial)
+    public void configureLogger() {
+        GameLogger logger = GameLogger.getDefault();
+        level = logger.getLevel();
+        sink = System.out;
+        logger.setSink(new PrintStream(OutputStream.nullOutputStream()));
+        logger.setLevel(log);
+    }
+
+    @TearDown(Level.Trial)
+    public void restoreLogger() {
+        GameLogger logger = GameLogger.getDefault();
+        logger.flush(1_000);
+        logger.setLevel(level);
+        logger.setSink(sink);
+    }
+
+    @Setup(Level.Iteration)
+    public void setUp() throws EmptyDeckException {
+        gameIndex = 0;
+        game = nextGame();
+    }
+
+    private Game nextGame() throws EmptyDeckException {
+        return new Game(machines, false, RandomSource.forIndex(SEED, gameIndex++));
+    }
+
+    /**
+     * Plays one turn: the first valid card of the current player through
+     * {@link Game#playCard(Player, Card)}, a replacement draw and the pass to the
+     * next seat. A player with no valid card takes a normal machine turn (and is
+     * eliminated). A finished game is replaced by the next seeded one inside the
+     * measured call, so the result is a per-turn cost with the deal amortized
+     * over the turns of a game, not the cost of {@code playCard} alone.
+     */
+    @Benchmark
+    public int turn() throws EmptyDeckException, InvalidMoveException {
+        if (game.isGameOver() || game.getActivePlayerCount() <= 1) {
+            game = nextGame();
+        }
+        Player current = game.getCurrentPlayer();
+        if (current != null) {
+            Card valid = firstValidCard(current);
+            if (valid == null) {
+                game.playMachineTurn(current);
+            } else {
+                game.playCard(current, valid);
+                game.tryDraw(current);
+            }
+        }
+        game.advanceTurn();
+        return game.getTableSum();
+    }
+
+    private Card firstValidCard(Player player) {
+        for (Card card : player.getHand()) {
+            if (game.isValidMove(card)) {
+                return card;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Deals a new seeded game and plays it out until there is a winner.
+     */
+    @Benchmark
+    public int fullGame() throws EmptyDeckException {
+        return GameSimulator.playOut(nextGame(), GameSimulator.DEFAULT_MAX_TURNS);
+    }
+}
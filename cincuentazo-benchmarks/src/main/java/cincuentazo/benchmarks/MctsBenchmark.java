@@ -0,0 +1,65 @@
+package cincuentazo.benchmarks;
+
+import cincuentazo.model.ai.MctsStrategy;
+import cincuentazo.model.exceptions.EmptyDeckException;
+import cincuentazo.model.game.Game;
+import cincuentazo.model.log.GameLogger;
+import cincuentazo.model.log.LogLevel;
+import cincuentazo.model.random.RandomSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures one MCTS decision with a fixed number of playouts, on one thread and
+ * on every core. Dividing the score by {@code playouts} gives the cost of one
+ * determinized playout, which bounds how strong a move can be in a 50 ms budget.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class MctsBenchmark {
+
+    private static final long SEED = 20251017L;
+
+    @Param({"2", "6"})
+    int machines;
+
+    @Param({"1", "0"})
+    int threads; // 0 means the shared search pool, one thread per core
+
+    @Param({"2000"})
+    int playouts;
+
+    private MctsStrategy mcts;
+    private Game game;
+
+    @Setup(Level.Trial)
+    public void setUp() throws EmptyDeckException {
+        GameLogger.getDefault().setLevel(LogLevel.OFF);
+        ForkJoinPool pool = threads == 0 ? MctsStrategy.searchPool() : new ForkJoinPool(threads);
+        mcts = new MctsStrategy(Duration.ofMinutes(1), playouts, pool, SEED);
+        game = new Game(machines, false, RandomSource.forIndex(SEED, 0));
+    }
+
+    @Benchmark
+    public MctsStrategy.Result decide() {
+        return mcts.search(game.getTurnView(game.getCurrentPlayer()));
+    }
+}
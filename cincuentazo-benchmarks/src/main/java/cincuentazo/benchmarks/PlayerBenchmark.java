@@ -0,0 +1,70 @@
+package cincuentazo.benchmarks;
+
+import cincuentazo.model.card.Card;
+import cincuentazo.model.exceptions.InvalidMoveException;
+import cincuentazo.model.player.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the machine move choice in {@link Player#playCard(int)}.
+ * The hand is 10, 8, 5, 9: at sum 10 the first card fits, at 45 the third,
+ * and at 50 only the last one, so the sums cover the short and long scans.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class PlayerBenchmark {
+
+    @Param({"10", "45", "50"})
+    int tableSum;
+
+    private Player player;
+    private int playedIndex; // position of the card chosen at this sum
+
+    @Setup
+    public void setUp() throws InvalidMoveException {
+        player = new Player("CPU-1", true);
+        player.getHand().add(Card.of("10", "Hearts"));
+        player.getHand().add(Card.of("8", "Clubs"));
+        player.getHand().add(Card.of("5", "Spades"));
+        player.getHand().add(Card.of("9", "Diamonds"));
+        Card played = player.playCard(tableSum);
+        playedIndex = indexIn(played);
+        player.getHand().add(playedIndex, played);
+    }
+
+    private static int indexIn(Card played) {
+        String[] symbols = {"10", "8", "5", "9"};
+        for (int i = 0; i < symbols.length; i++) {
+            if (symbols[i].equals(played.getSymbol())) {
+                return i;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Chooses and removes a card, then puts it back where it was.
+     */
+    @Benchmark
+    public Card playCard() throws InvalidMoveException {
+        Card played = player.playCard(tableSum);
+        player.getHand().add(playedIndex, played);
+        return played;
+    }
+}
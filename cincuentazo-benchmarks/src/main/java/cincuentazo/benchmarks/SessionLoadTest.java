@@ -0,0 +1,82 @@
+package cincuentazo.benchmarks;
+
+import cincuentazo.model.exceptions.EmptyDeckException;
+import cincuentazo.model.game.LatencyHistogram;
+import cincuentazo.model.game.SessionHost;
+import cincuentazo.model.game.TableListener;
+import cincuentazo.model.game.TablePacing;
+import cincuentazo.model.log.GameLogger;
+import cincuentazo.model.log.LogLevel;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Load test of {@link SessionHost}: opens many machine-only sessions at once and
+ * reports how many run concurrently, the heap each one costs and the turn latency.
+ * <p>
+ * Usage: {@code java -cp benchmarks.jar cincuentazo.benchmarks.SessionLoadTest [sessions] [machines] [thinkMillis] [seconds]}
+ * <br>
+ * Defaults: 10000 sessions of 3 machines, 200 to 400 ms of thinking, at most 60 seconds.
+ * Run it with a fixed heap (for example {@code -Xmx2g}) to see where the JVM tops out.
+ */
+public class SessionLoadTest {
+
+    /**
+     * Runs the load test.
+     * @param args optional sessions, machines, think time and time limit
+     */
+    public static void main(String[] args) throws EmptyDeckException, InterruptedException {
+        int sessions = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int machines = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+        int thinkMillis = args.length > 2 ? Integer.parseInt(args[2]) : 200;
+        int seconds = args.length > 3 ? Integer.parseInt(args[3]) : 60;
+
+        GameLogger.getDefault().setLevel(LogLevel.OFF); // the games log every move
+
+        TablePacing pacing = new TablePacing(Duration.ofMillis(thinkMillis), Duration.ofMillis(2L * thinkMillis),
+                Duration.ofMillis(thinkMillis / 4));
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        long heapBefore = usedHeapAfterGc(memory);
+        int peakThreads;
+        int peakSessions;
+        long heapPerSession;
+        boolean drained;
+        long start = System.nanoTime();
+
+        try (SessionHost host = new SessionHost()) {
+            for (int i = 0; i < sessions; i++) {
+                host.open(machines, false, pacing, new TableListener() { });
+            }
+            long opened = System.nanoTime() - start;
+            peakSessions = host.getActiveSessions();
+            heapPerSession = (usedHeapAfterGc(memory) - heapBefore) / Math.max(1, peakSessions);
+            peakThreads = ManagementFactory.getThreadMXBean().getThreadCount();
+
+            System.out.printf(Locale.ROOT, "Opened %,d sessions in %.1f ms; %,d running on %d platform threads%n",
+                    sessions, opened / 1e6, peakSessions, peakThreads);
+            drained = host.awaitAll(Duration.ofSeconds(seconds));
+            if (!drained) {
+                System.out.printf(Locale.ROOT, "Time limit reached with %,d sessions still running%n", host.getActiveSessions());
+            }
+
+            LatencyHistogram latency = host.getTurnLatency();
+            double elapsed = (System.nanoTime() - start) / 1e9;
+            System.out.printf(Locale.ROOT, "Heap per session:     %,d bytes%n", heapPerSession);
+            System.out.printf(Locale.ROOT, "Turns played:         %,d (%.0f turns/s)%n", latency.getCount(), latency.getCount() / elapsed);
+            System.out.printf(Locale.ROOT, "Turn latency p50:     %.3f ms%n", latency.getQuantileNanos(0.50) / 1e6);
+            System.out.printf(Locale.ROOT, "Turn latency p99:     %.3f ms%n", latency.getQuantileNanos(0.99) / 1e6);
+            System.out.printf(Locale.ROOT, "Turn latency max:     %.3f ms%n", latency.getMaxNanos() / 1e6);
+        }
+    }
+
+    private static long usedHeapAfterGc(MemoryMXBean memory) throws InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
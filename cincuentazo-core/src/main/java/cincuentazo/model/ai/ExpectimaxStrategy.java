@@ -0,0 +1,381 @@
+package cincuentazo.model.ai;
+
+import cincuentazo.model.card.Card;
+import cincuentazo.model.card.CardSet;
+import cincuentazo.model.card.PlayTable;
+import cincuentazo.model.card.Zobrist;
+import cincuentazo.model.player.FirstCardStrategy;
+import cincuentazo.model.player.MachineStrategy;
+import cincuentazo.model.player.Player;
+import cincuentazo.model.player.TurnView;
+
+/**
+ * Depth-limited expectimax opponent.
+ * The player maximizes over its playable cards; everything it cannot see is a
+ * chance node weighted by the composition of the unseen cards (the deck and the
+ * other hands, which look alike from this seat):
+ * <ul>
+ *   <li>its own draw takes each unseen rank with probability {@code n / unseen};</li>
+ *   <li>an opponent holding {@code k} cards is eliminated with the hypergeometric
+ *       probability that none of them is playable, and otherwise plays each
+ *       playable unseen rank in proportion to its count.</li>
+ * </ul>
+ * Suits never matter, so each rank is searched once. The value of a position is
+ * the searching seat's chance of winning: 1 when it is the last seat, 0 when it
+ * is eliminated, and at the depth limit an estimate from how much of its hand
+ * is playable and how many seats are left.
+ * <p>
+ * Positions are cached in a fixed-size {@link TranspositionTable} keyed by a
+ * {@link Zobrist} hash of the table sum, the top card, the own hand, the unseen
+ * composition, the other hands' sizes, the eliminated seats and the seat to
+ * move, updated with a few XORs per move. The search uses no randomness and
+ * visits a bounded number of nodes, so its answers and its response time are
+ * predictable.
+ * An instance keeps its table between decisions and is not thread-safe; the
+ * registry creates one per seat.
+ */
+public class ExpectimaxStrategy implements MachineStrategy {
+
+    /**
+     * Default search depth, in turns.
+     */
+    public static final int DEFAULT_DEPTH = 4;
+
+    /**
+     * Default number of transposition table entries.
+     */
+    public static final int DEFAULT_TABLE_SIZE = 1 << 16;
+
+    private static final long[] RANK_CARDS = new long[Card.RANKS];
+
+    static {
+        for (int rank = 0; rank < Card.RANKS; rank++) {
+            RANK_CARDS[rank] = CardSet.spreadRanks(1L << rank);
+        }
+    }
+
+    private final int depth;
+    private final TranspositionTable table;
+
+    // Position being searched; every move updates it and restores it on the way back
+    private int root;
+    private int seats;
+    private long own;
+    private long unseen;
+    private long onTable;
+    private int top;
+    private int sum;
+    private int deckSize;
+    private int active;
+    private int mover;
+    private final int[] handSizes = new int[Zobrist.MAX_SEATS];
+    private long hash;
+    private long nodes;
+
+    /**
+     * Outcome of one search.
+     *
+     * @param card  the card to play, or {@code null} if no card can be played
+     * @param value estimated chance of winning after playing it
+     * @param nodes number of positions expanded
+     */
+    public record Result(Card card, double value, long nodes) {
+    }
+
+    /**
+     * Creates a strategy with {@link #DEFAULT_DEPTH} and {@link #DEFAULT_TABLE_SIZE}.
+     */
+    public ExpectimaxStrategy() {
+        this(DEFAULT_DEPTH, DEFAULT_TABLE_SIZE);
+    }
+
+    /**
+     * Creates a strategy.
+     *
+     * @param depth        number of turns searched ahead, at least 1
+     * @param tableEntries transposition table size, rounded up to a power of two
+     */
+    public ExpectimaxStrategy(int depth, int tableEntries) {
+        if (depth < 1 || depth > 100) {
+            throw new IllegalArgumentException("depth must be between 1 and 100: " + depth);
+        }
+        if (tableEntries <= 0) {
+            throw new IllegalArgumentException("tableEntries must be positive: " + tableEntries);
+        }
+        this.depth = depth;
+        this.table = new TranspositionTable(tableEntries);
+    }
+
+    @Override
+    public Card chooseCard(TurnView view) {
+        return search(view).card();
+    }
+
+    /**
+     * Searches for the best card and reports the work done.
+     *
+     * @param view what the player can see of the game
+     * @return the chosen card, its value and the number of positions expanded
+     */
+    public Result search(TurnView view) {
+        long playable = view.getHandBits() & PlayTable.playableCards(view.getTableSum());
+        if (!load(view)) {
+            return new Result(FirstCardStrategy.INSTANCE.chooseCard(view), Double.NaN, 0); // cards the search cannot model
+        }
+        if (Long.bitCount(playable) <= 1) {
+            return new Result(playable == 0 ? null : Card.of(Long.numberOfTrailingZeros(playable)), Double.NaN, 0);
+        }
+        nodes = 0;
+        int best = -1;
+        double bestValue = -1;
+        for (long ranks = CardSet.foldRanks(playable); ranks != 0; ranks &= ranks - 1) {
+            int card = Long.numberOfTrailingZeros(playable & RANK_CARDS[Long.numberOfTrailingZeros(ranks)]);
+            double value = ownMove(card, depth);
+            if (value > bestValue) {
+                bestValue = value;
+                best = card;
+            }
+        }
+        return new Result(Card.of(best), bestValue, nodes);
+    }
+
+    /**
+     * Returns the number of transposition table hits since this strategy was created.
+     */
+    public long getTableHits() {
+        return table.hits();
+    }
+
+    /**
+     * Loads the position seen by the player about to move.
+     *
+     * @return {@code false} if the view holds cards or seats the search cannot represent
+     */
+    private boolean load(TurnView view) {
+        Card topCard = view.getTopCard();
+        if (!view.isHandCanonical() || topCard == null || !topCard.isCanonical()
+                || view.getSeatCount() > Zobrist.MAX_SEATS) {
+            return false;
+        }
+        root = view.getSeat();
+        seats = view.getSeatCount();
+        own = view.getHandBits();
+        onTable = view.getTableBits();
+        unseen = CardSet.ALL & ~own & ~onTable;
+        top = topCard.getOrdinal();
+        sum = view.getTableSum();
+        deckSize = view.getDeckSize();
+        active = (int) view.getActiveSeats();
+        mover = root;
+        hash = Zobrist.handHash(root, own) ^ Zobrist.deckHash(unseen) ^ Zobrist.sum(sum) ^ Zobrist.top(top)
+                ^ Zobrist.turn(root);
+        int hidden = deckSize;
+        for (int seat = 0; seat < seats; seat++) {
+            handSizes[seat] = 0;
+            if ((active & (1 << seat)) == 0) {
+                hash ^= Zobrist.eliminated(seat);
+            } else if (seat != root) {
+                int size = Math.min(view.getHandSize(seat), Player.HAND_SIZE);
+                handSizes[seat] = size;
+                hash ^= Zobrist.handSize(seat, size);
+                hidden += size;
+            }
+        }
+        return hidden == Long.bitCount(unseen); // every unseen card is in the deck or another hand
+    }
+
+    private double value(int remaining) {
+        if ((active & (1 << root)) == 0) {
+            return 0;
+        }
+        if (active == 1 << root) {
+            return 1;
+        }
+        if (mover == root && (own & PlayTable.playableCards(sum)) == 0) {
+            return 0; // about to be eliminated
+        }
+        if (remaining == 0) {
+            return estimate();
+        }
+        double cached = table.probe(hash, remaining);
+        if (!Double.isNaN(cached)) {
+            return cached;
+        }
+        nodes++;
+        double value = mover == root ? maxNode(remaining) : opponentNode(remaining);
+        table.store(hash, remaining, value);
+        return value;
+    }
+
+    /**
+     * Static estimate at the depth limit: a fair share of the win, raised or
+     * lowered by the fraction of the hand that is playable right now.
+     */
+    private double estimate() {
+        int held = Long.bitCount(own);
+        double playable = held == 0 ? 0 : (double) Long.bitCount(own & PlayTable.playableCards(sum)) / held;
+        return Math.min(1, (0.5 + playable) / Integer.bitCount(active));
+    }
+
+    private double maxNode(int remaining) {
+        long playable = own & PlayTable.playableCards(sum);
+        double best = 0;
+        for (long ranks = CardSet.foldRanks(playable); ranks != 0; ranks &= ranks - 1) {
+            int card = Long.numberOfTrailingZeros(playable & RANK_CARDS[Long.numberOfTrailingZeros(ranks)]);
+            best = Math.max(best, ownMove(card, remaining));
+        }
+        return best;
+    }
+
+    /**
+     * Plays one of the searching seat's cards, then averages over the card it draws.
+     */
+    private double ownMove(int card, int remaining) {
+        long savedOwn = own, savedUnseen = unseen, savedTable = onTable, savedHash = hash;
+        int savedTop = top, savedSum = sum, savedDeck = deckSize, savedMover = mover;
+
+        own &= ~(1L << card);
+        hash ^= Zobrist.hand(root, card);
+        putOnTable(card);
+        if (deckSize == 0) {
+            recycle();
+        }
+        double value;
+        int total = Long.bitCount(unseen);
+        if (Long.bitCount(own) < Player.HAND_SIZE && deckSize > 0 && total > 0) {
+            long afterPlayOwn = own, afterPlayUnseen = unseen, afterPlayHash = hash;
+            int afterPlayDeck = deckSize;
+            value = 0;
+            for (int rank = 0; rank < Card.RANKS; rank++) {
+                long ofRank = unseen & RANK_CARDS[rank];
+                if (ofRank == 0) {
+                    continue;
+                }
+                int drawn = Long.numberOfTrailingZeros(ofRank);
+                unseen &= ~(1L << drawn);
+                own |= 1L << drawn;
+                hash ^= Zobrist.deck(drawn) ^ Zobrist.hand(root, drawn);
+                deckSize--;
+                passTurn();
+                value += Long.bitCount(ofRank) * value(remaining - 1);
+                own = afterPlayOwn;
+                unseen = afterPlayUnseen;
+                hash = afterPlayHash;
+                deckSize = afterPlayDeck;
+                mover = root;
+            }
+            value /= total;
+        } else {
+            passTurn();
+            value = value(remaining - 1);
+        }
+
+        own = savedOwn;
+        unseen = savedUnseen;
+        onTable = savedTable;
+        hash = savedHash;
+        top = savedTop;
+        sum = savedSum;
+        deckSize = savedDeck;
+        mover = savedMover;
+        return value;
+    }
+
+    /**
+     * Averages over what an opponent with hidden cards does: be eliminated, or play one of the playable ranks.
+     */
+    private double opponentNode(int remaining) {
+        int seat = mover;
+        int held = handSizes[seat];
+        int total = Long.bitCount(unseen);
+        long playable = unseen & PlayTable.playableCards(sum);
+        int fitting = Long.bitCount(playable);
+
+        // Hypergeometric chance that none of the held cards is playable
+        double blocked = 1;
+        for (int i = 0; i < held; i++) {
+            blocked *= Math.max(0, total - fitting - i) / (double) (total - i);
+        }
+
+        long savedUnseen = unseen, savedTable = onTable, savedHash = hash;
+        int savedTop = top, savedSum = sum, savedDeck = deckSize, savedActive = active;
+        double value = 0;
+
+        if (blocked > 0) {
+            active &= ~(1 << seat);
+            hash ^= Zobrist.eliminated(seat) ^ Zobrist.handSize(seat, held);
+            handSizes[seat] = 0;
+            deckSize += held; // the hand goes back to the deck, still unseen
+            passTurn();
+            value += blocked * value(remaining - 1);
+            active = savedActive;
+            handSizes[seat] = held;
+            deckSize = savedDeck;
+            hash = savedHash;
+            mover = seat;
+        }
+
+        if (blocked < 1 && fitting > 0) {
+            double plays = 0;
+            for (long ranks = CardSet.foldRanks(playable); ranks != 0; ranks &= ranks - 1) {
+                long ofRank = playable & RANK_CARDS[Long.numberOfTrailingZeros(ranks)];
+                int card = Long.numberOfTrailingZeros(ofRank);
+                unseen &= ~(1L << card);
+                hash ^= Zobrist.deck(card);
+                putOnTable(card);
+                if (deckSize == 0) {
+                    recycle();
+                }
+                if (deckSize > 0) {
+                    deckSize--; // the replacement stays hidden in the opponent's hand
+                } else {
+                    hash ^= Zobrist.handSize(seat, held) ^ Zobrist.handSize(seat, held - 1);
+                    handSizes[seat] = held - 1;
+                }
+                passTurn();
+                plays += Long.bitCount(ofRank) * value(remaining - 1);
+                unseen = savedUnseen;
+                onTable = savedTable;
+                hash = savedHash;
+                top = savedTop;
+                sum = savedSum;
+                deckSize = savedDeck;
+                handSizes[seat] = held;
+                mover = seat;
+            }
+            value += (1 - blocked) * plays / fitting;
+        }
+        return value;
+    }
+
+    private void putOnTable(int card) {
+        onTable |= 1L << card;
+        hash ^= Zobrist.top(top) ^ Zobrist.top(card);
+        top = card;
+        int next = PlayTable.resultingSum(sum, card % Card.RANKS);
+        hash ^= Zobrist.sum(sum) ^ Zobrist.sum(next);
+        sum = next;
+    }
+
+    /**
+     * Shuffles the table under the top card back into the (unseen) deck.
+     */
+    private void recycle() {
+        long back = onTable & ~(1L << top);
+        unseen |= back;
+        hash ^= Zobrist.deckHash(back);
+        deckSize += Long.bitCount(back);
+        onTable = 1L << top;
+    }
+
+    private void passTurn() {
+        if (Integer.bitCount(active) <= 1) {
+            return;
+        }
+        hash ^= Zobrist.turn(mover);
+        do {
+            mover = (mover + 1) % seats;
+        } while ((active & (1 << mover)) == 0);
+        hash ^= Zobrist.turn(mover);
+    }
+}
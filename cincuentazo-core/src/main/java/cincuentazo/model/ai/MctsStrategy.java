@@ -0,0 +1,316 @@
+package cincuentazo.model.ai;
+
+import cincuentazo.model.card.Card;
+import cincuentazo.model.card.PlayTable;
+import cincuentazo.model.player.FirstCardStrategy;
+import cincuentazo.model.player.MachineStrategy;
+import cincuentazo.model.player.TurnView;
+import cincuentazo.model.random.RandomSource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.random.RandomGenerator;
+
+/**
+ * Monte Carlo Tree Search opponent.
+ * Hidden information is handled by determinization: every iteration deals the
+ * unseen cards (other hands and deck order) at random, consistent with what
+ * the player can see, then walks a shared tree of moves (information set MCTS,
+ * selecting with UCB1 among the moves legal in that deal), expands one move and
+ * finishes the game with random legal moves on a {@link RolloutState}.
+ * <p>
+ * The search is root-parallel: one tree per worker, all running on a
+ * {@link ForkJoinPool} until the time budget or the iteration budget is spent,
+ * after which the visits of the root moves are added up and the most visited
+ * card is chosen. With only an iteration budget the choice is reproducible for
+ * a given seed.
+ * <p>
+ * By default the trees grow on {@link #searchPool()}, a pool used for nothing
+ * else, so a decision made from another pool's worker (a game of a tournament,
+ * say) neither queues its trees behind that pool's tasks nor runs those tasks
+ * while it waits for its trees.
+ */
+public class MctsStrategy implements MachineStrategy {
+
+    /**
+     * Default time allowed for one decision.
+     */
+    public static final Duration DEFAULT_BUDGET = Duration.ofMillis(50);
+
+    /**
+     * Exploration constant of UCB1.
+     */
+    private static final double EXPLORATION = 0.7;
+
+    /**
+     * Plies after which a rollout is abandoned without a winner.
+     */
+    private static final int MAX_ROLLOUT_PLIES = 2_000;
+
+    private final long budgetNanos;
+    private final int maxIterations;
+    private final ForkJoinPool pool;
+    private final int workers;
+    private final long seed;
+    private final AtomicLong decisions = new AtomicLong();
+
+    private static class SearchPoolHolder {
+        private static final ForkJoinPool INSTANCE = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Returns the pool the default strategies search on: one thread per core,
+     * shared by every MCTS decision and used for nothing else.
+     */
+    public static ForkJoinPool searchPool() {
+        return SearchPoolHolder.INSTANCE;
+    }
+
+    /**
+     * Outcome of one search.
+     *
+     * @param card       the card to play, or {@code null} if no card can be played
+     * @param iterations number of determinized playouts run
+     */
+    public record Result(Card card, int iterations) {
+    }
+
+    /**
+     * Creates a strategy that thinks for {@link #DEFAULT_BUDGET} on the {@link #searchPool()}.
+     */
+    public MctsStrategy() {
+        this(DEFAULT_BUDGET, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a strategy with a random seed on the {@link #searchPool()}.
+     *
+     * @param timeBudget    time allowed for one decision
+     * @param maxIterations playouts allowed for one decision
+     */
+    public MctsStrategy(Duration timeBudget, int maxIterations) {
+        this(timeBudget, maxIterations, searchPool(), RandomSource.randomSeed());
+    }
+
+    /**
+     * Creates a strategy.
+     * The search stops at whichever budget runs out first.
+     *
+     * @param timeBudget    time allowed for one decision
+     * @param maxIterations playouts allowed for one decision, shared by all workers
+     * @param pool          the pool the workers run on; one tree per level of parallelism
+     * @param seed          seed the workers' generators are derived from
+     */
+    public MctsStrategy(Duration timeBudget, int maxIterations, ForkJoinPool pool, long seed) {
+        if (timeBudget.isNegative() || timeBudget.isZero()) {
+            throw new IllegalArgumentException("The time budget must be positive: " + timeBudget);
+        }
+        if (maxIterations <= 0) {
+            throw new IllegalArgumentException("maxIterations must be positive: " + maxIterations);
+        }
+        this.budgetNanos = timeBudget.toNanos();
+        this.maxIterations = maxIterations;
+        this.pool = pool;
+        this.workers = Math.max(1, pool.getParallelism());
+        this.seed = seed;
+    }
+
+    /**
+     * Chooses the card to play; see {@link #search(TurnView)}.
+     */
+    @Override
+    public Card chooseCard(TurnView view) {
+        return search(view).card();
+    }
+
+    /**
+     * Searches for the best card and reports the work done.
+     *
+     * @param view what the player can see of the game
+     * @return the chosen card, or {@code null} if none can be played, and the number of playouts
+     */
+    public Result search(TurnView view) {
+        long deadline = System.nanoTime() + budgetNanos;
+        long playable = view.getHandBits() & PlayTable.playableCards(view.getTableSum());
+        Observation observation = Observation.of(view);
+        if (observation == null) {
+            return new Result(FirstCardStrategy.INSTANCE.chooseCard(view), 0); // cards the rollouts cannot model
+        }
+        if (Long.bitCount(playable) <= 1) {
+            return new Result(playable == 0 ? null : Card.of(Long.numberOfTrailingZeros(playable)), 0);
+        }
+
+        long decision = decisions.getAndIncrement();
+        List<SearchWorker> tasks = new ArrayList<>(workers);
+        CountDownLatch grown = new CountDownLatch(workers);
+        for (int w = 0; w < workers; w++) {
+            int share = maxIterations / workers + (w < maxIterations % workers ? 1 : 0);
+            SearchWorker task = new SearchWorker(observation, share, deadline,
+                    RandomSource.forIndex(seed, decision * workers + w), grown);
+            tasks.add(task);
+            pool.execute(task);
+        }
+        if (!(Thread.currentThread() instanceof ForkJoinWorkerThread thread && thread.getPool() == pool)) {
+            // Block without helping: join() from another pool's worker could run that pool's tasks here
+            awaitUninterruptibly(grown);
+        }
+        long[] visits = new long[Card.DECK_SIZE];
+        double[] wins = new double[Card.DECK_SIZE];
+        int iterations = 0;
+        for (SearchWorker task : tasks) {
+            for (Node child : task.join().children) {
+                visits[child.card] += child.visits;
+                wins[child.card] += child.wins;
+            }
+            iterations += task.iterations;
+        }
+
+        int best = Long.numberOfTrailingZeros(playable);
+        for (long rest = playable; rest != 0; rest &= rest - 1) {
+            int card = Long.numberOfTrailingZeros(rest);
+            if (visits[card] > visits[best] || (visits[card] == visits[best] && wins[card] > wins[best])) {
+                best = card;
+            }
+        }
+        return new Result(Card.of(best), iterations);
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                latch.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true; // the trees stop at the deadline anyway
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Node of a search tree: the move that led here and its statistics,
+     * counted for the seat that made it.
+     */
+    private static final class Node {
+        final Node parent;
+        final int card;
+        final int mover;
+        final List<Node> children = new ArrayList<>(4);
+        int visits;
+        int available; // iterations in which this move was legal
+        double wins;
+
+        Node(Node parent, int card, int mover) {
+            this.parent = parent;
+            this.card = card;
+            this.mover = mover;
+        }
+
+        double ucb(double exploration) {
+            return wins / visits + exploration * Math.sqrt(Math.log(available) / visits);
+        }
+    }
+
+    /**
+     * Grows one tree until its share of the budget is spent.
+     */
+    private static final class SearchWorker extends RecursiveTask<Node> {
+        private final Observation observation;
+        private final int maxIterations;
+        private final long deadline;
+        private final RandomGenerator random;
+        private final CountDownLatch grown;
+        private int iterations;
+
+        SearchWorker(Observation observation, int maxIterations, long deadline,
+                     RandomGenerator random, CountDownLatch grown) {
+            this.observation = observation;
+            this.maxIterations = maxIterations;
+            this.deadline = deadline;
+            this.random = random;
+            this.grown = grown;
+        }
+
+        @Override
+        protected Node compute() {
+            try {
+                return grow();
+            } finally {
+                grown.countDown();
+            }
+        }
+
+        private Node grow() {
+            Node root = new Node(null, -1, -1);
+            RolloutState state = new RolloutState(observation.seats, random);
+            while (iterations < maxIterations && System.nanoTime() < deadline) {
+                state.determinize(observation);
+                Node node = descend(root, state);
+                int winner = state.playOut(MAX_ROLLOUT_PLIES);
+                for (; node != null; node = node.parent) {
+                    node.visits++;
+                    if (node.mover == winner && winner >= 0) {
+                        node.wins++;
+                    }
+                }
+                iterations++;
+            }
+            return root;
+        }
+
+        /**
+         * Selects down the tree with UCB1 until a move not tried yet in this deal
+         * is found, expands it and returns the new node (or the last node if the
+         * game ended first).
+         */
+        private Node descend(Node node, RolloutState state) {
+            while (!state.isOver()) {
+                long legal = state.playable();
+                if (legal == 0) {
+                    state.eliminate(); // forced, not a decision
+                    continue;
+                }
+                long untried = legal;
+                Node best = null;
+                double bestScore = Double.NEGATIVE_INFINITY;
+                for (Node child : node.children) {
+                    long bit = 1L << child.card;
+                    if ((legal & bit) == 0 || child.mover != state.current()) {
+                        continue;
+                    }
+                    untried &= ~bit;
+                    child.available++;
+                }
+                if (untried != 0) {
+                    Node child = new Node(node, RolloutState.randomBit(untried, random), state.current());
+                    child.available = 1;
+                    node.children.add(child);
+                    state.play(child.card);
+                    return child;
+                }
+                for (Node child : node.children) {
+                    if ((legal & (1L << child.card)) == 0 || child.mover != state.current()) {
+                        continue;
+                    }
+                    double score = child.ucb(EXPLORATION);
+                    if (score > bestScore) {
+                        bestScore = score;
+                        best = child;
+                    }
+                }
+                state.play(best.card);
+                node = best;
+            }
+            return node;
+        }
+    }
+}
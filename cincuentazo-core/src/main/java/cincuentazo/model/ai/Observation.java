@@ -0,0 +1,69 @@
+package cincuentazo.model.ai;
+
+import cincuentazo.model.card.Card;
+import cincuentazo.model.card.CardSet;
+import cincuentazo.model.player.TurnView;
+
+/**
+ * What one seat can see of a game: its own hand, the table, and only the sizes
+ * of the other hands and of the deck.
+ * Every card that is neither in the seat's hand nor on the table is "unseen":
+ * it lies in some opponent's hand or somewhere in the deck. A
+ * {@link RolloutState} is determinized by dealing the unseen cards at random
+ * into hands and deck of those sizes.
+ */
+final class Observation {
+
+    final int seats;
+    final int root;
+    final int current;
+    final int activeSeats;
+    final int tableSum;
+    final int topCard;
+    final long tableBits;
+    final long ownBits;
+    final int[] handSizes;
+    final int[] unseen;
+
+    private Observation(int seats, int root, int current, int activeSeats, int tableSum, int topCard,
+                        long tableBits, long ownBits, int[] handSizes, int[] unseen) {
+        this.seats = seats;
+        this.root = root;
+        this.current = current;
+        this.activeSeats = activeSeats;
+        this.tableSum = tableSum;
+        this.topCard = topCard;
+        this.tableBits = tableBits;
+        this.ownBits = ownBits;
+        this.handSizes = handSizes;
+        this.unseen = unseen;
+    }
+
+    /**
+     * Records what a player sees of the game right now.
+     *
+     * @param view the view of the player about to move
+     * @return the observation, or {@code null} if the hand or the table holds
+     *         cards that are not canonical (the bit-based rollouts cannot represent them)
+     */
+    static Observation of(TurnView view) {
+        Card top = view.getTopCard();
+        if (top == null || !top.isCanonical() || !view.isHandCanonical()) {
+            return null;
+        }
+        int[] handSizes = new int[view.getSeatCount()];
+        for (int seat = 0; seat < handSizes.length; seat++) {
+            handSizes[seat] = view.getHandSize(seat);
+        }
+        long ownBits = view.getHandBits();
+        long tableBits = view.getTableBits();
+        long unseenBits = CardSet.ALL & ~ownBits & ~tableBits;
+        int[] unseen = new int[Long.bitCount(unseenBits)];
+        int i = 0;
+        for (long rest = unseenBits; rest != 0; rest &= rest - 1) {
+            unseen[i++] = Long.numberOfTrailingZeros(rest);
+        }
+        return new Observation(handSizes.length, view.getSeat(), view.getSeat(), (int) view.getActiveSeats(),
+                view.getTableSum(), top.getOrdinal(), tableBits, ownBits, handSizes, unseen);
+    }
+}
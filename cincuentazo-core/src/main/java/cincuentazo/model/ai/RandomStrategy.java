@@ -0,0 +1,48 @@
+package cincuentazo.model.ai;
+
+import cincuentazo.model.card.Card;
+import cincuentazo.model.card.PlayTable;
+import cincuentazo.model.player.MachineStrategy;
+import cincuentazo.model.player.TurnView;
+
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Plays a uniformly random playable card. A baseline for comparing strategies.
+ */
+public class RandomStrategy implements MachineStrategy {
+
+    private final RandomGenerator random;
+
+    /**
+     * Creates a strategy drawing from the given generator, which it then owns.
+     *
+     * @param random the generator
+     */
+    public RandomStrategy(RandomGenerator random) {
+        this.random = random;
+    }
+
+    @Override
+    public Card chooseCard(TurnView view) {
+        List<Card> hand = view.getHand();
+        int sum = view.getTableSum();
+        int playable = 0;
+        for (int i = 0; i < hand.size(); i++) {
+            if (PlayTable.canPlay(sum, hand.get(i))) {
+                playable++;
+            }
+        }
+        if (playable == 0) {
+            return null;
+        }
+        int pick = random.nextInt(playable);
+        for (int i = 0; i < hand.size(); i++) {
+            if (PlayTable.canPlay(sum, hand.get(i)) && pick-- == 0) {
+                return hand.get(i);
+            }
+        }
+        return null;
+    }
+}
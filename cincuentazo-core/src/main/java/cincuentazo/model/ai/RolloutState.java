@@ -0,0 +1,224 @@
+package cincuentazo.model.ai;
+
+import cincuentazo.model.card.Card;
+import cincuentazo.model.card.PlayTable;
+import cincuentazo.model.player.Player;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Compact, fully known game state used for Monte Carlo rollouts.
+ * Hands and the table are {@link cincuentazo.model.card.CardSet} bits, the deck
+ * is a ring of card ordinals, and the active seats a bit mask, so a move is a
+ * handful of bit operations and array writes. The rules mirror {@code Game}:
+ * play a card that keeps the sum at or below 50 and draw back to four, or be
+ * eliminated and return the hand to the bottom of the deck; an empty deck is
+ * refilled with the table cards under the top one, shuffled.
+ * One instance is reused for every iteration of a search worker.
+ */
+final class RolloutState {
+
+    private static final int DECK_CAPACITY = 64; // power of two, above the 52 cards
+
+    private final RandomGenerator random;
+    private final long[] hands;
+    private final int[] deck = new int[DECK_CAPACITY];
+    private final int[] scratch = new int[Card.DECK_SIZE];
+    private int deckHead;
+    private int deckCount;
+    private long table;
+    private int top;
+    private int sum;
+    private int active;
+    private int current;
+
+    /**
+     * Creates a state for the given number of seats.
+     *
+     * @param seats  number of seats at the table
+     * @param random generator for deals, recycles and rollout moves; owned by this state
+     */
+    RolloutState(int seats, RandomGenerator random) {
+        this.hands = new long[seats];
+        this.random = random;
+    }
+
+    /**
+     * Fills this state with one possible deal consistent with the observation:
+     * the unseen cards are shuffled and dealt to the opponents, in their hand
+     * sizes, and the rest becomes the deck.
+     */
+    void determinize(Observation observation) {
+        int[] unseen = scratch;
+        int count = observation.unseen.length;
+        System.arraycopy(observation.unseen, 0, unseen, 0, count);
+        shuffle(unseen, count);
+        int next = 0;
+        for (int seat = 0; seat < hands.length; seat++) {
+            if (seat == observation.root) {
+                hands[seat] = observation.ownBits;
+                continue;
+            }
+            long hand = 0;
+            for (int k = 0; k < observation.handSizes[seat] && next < count; k++) {
+                hand |= 1L << unseen[next++];
+            }
+            hands[seat] = hand;
+        }
+        deckHead = 0;
+        deckCount = 0;
+        while (next < count) {
+            deck[deckCount++] = unseen[next++];
+        }
+        table = observation.tableBits;
+        top = observation.topCard;
+        sum = observation.tableSum;
+        active = observation.activeSeats;
+        current = observation.current;
+    }
+
+    int current() {
+        return current;
+    }
+
+    boolean isOver() {
+        return Integer.bitCount(active) <= 1;
+    }
+
+    /**
+     * Returns the winning seat, or -1 while more than one seat is active.
+     */
+    int winner() {
+        return Integer.bitCount(active) == 1 ? Integer.numberOfTrailingZeros(active) : -1;
+    }
+
+    /**
+     * Returns how many cards the hands, deck and table hold together; 52 in a consistent state.
+     */
+    int cardCount() {
+        int count = deckCount + Long.bitCount(table);
+        for (long hand : hands) {
+            count += Long.bitCount(hand);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the union of the cards in the hands, deck and table.
+     */
+    long cardBits() {
+        long bits = table;
+        for (long hand : hands) {
+            bits |= hand;
+        }
+        for (int i = 0; i < deckCount; i++) {
+            bits |= 1L << deck[(deckHead + i) & (DECK_CAPACITY - 1)];
+        }
+        return bits;
+    }
+
+    /**
+     * Returns the bits of the cards the current seat can play.
+     */
+    long playable() {
+        return hands[current] & PlayTable.playableCards(sum);
+    }
+
+    /**
+     * Plays a card of the current seat, draws a replacement and passes the turn.
+     */
+    void play(int ordinal) {
+        int seat = current;
+        hands[seat] &= ~(1L << ordinal);
+        sum = PlayTable.resultingSum(sum, ordinal % Card.RANKS);
+        table |= 1L << ordinal;
+        top = ordinal;
+        draw(seat);
+        advance();
+    }
+
+    /**
+     * Eliminates the current seat, returning its hand to the bottom of the deck, and passes the turn.
+     */
+    void eliminate() {
+        int seat = current;
+        for (long rest = hands[seat]; rest != 0; rest &= rest - 1) {
+            deck[(deckHead + deckCount++) & (DECK_CAPACITY - 1)] = Long.numberOfTrailingZeros(rest);
+        }
+        hands[seat] = 0;
+        active &= ~(1 << seat);
+        advance();
+    }
+
+    /**
+     * Plays random legal moves until one seat is left or the ply limit is reached.
+     *
+     * @return the winning seat, or -1 if the limit was reached first
+     */
+    int playOut(int maxPlies) {
+        for (int ply = 0; ply < maxPlies && !isOver(); ply++) {
+            long playable = playable();
+            if (playable == 0) {
+                eliminate();
+            } else {
+                play(randomBit(playable, random));
+            }
+        }
+        return winner();
+    }
+
+    /**
+     * Returns the ordinal of a uniformly chosen set bit.
+     */
+    static int randomBit(long bits, RandomGenerator random) {
+        for (int skip = random.nextInt(Long.bitCount(bits)); skip > 0; skip--) {
+            bits &= bits - 1;
+        }
+        return Long.numberOfTrailingZeros(bits);
+    }
+
+    private void draw(int seat) {
+        if (Long.bitCount(hands[seat]) >= Player.HAND_SIZE) {
+            return;
+        }
+        if (deckCount == 0) {
+            recycle();
+        }
+        if (deckCount > 0) {
+            hands[seat] |= 1L << deck[deckHead];
+            deckHead = (deckHead + 1) & (DECK_CAPACITY - 1);
+            deckCount--;
+        }
+    }
+
+    private void recycle() {
+        long rest = table & ~(1L << top);
+        int count = 0;
+        for (; rest != 0; rest &= rest - 1) {
+            scratch[count++] = Long.numberOfTrailingZeros(rest);
+        }
+        shuffle(scratch, count);
+        for (int i = 0; i < count; i++) {
+            deck[(deckHead + deckCount++) & (DECK_CAPACITY - 1)] = scratch[i];
+        }
+        table = 1L << top;
+    }
+
+    private void shuffle(int[] cards, int count) {
+        for (int i = count - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = cards[i];
+            cards[i] = cards[j];
+            cards[j] = swap;
+        }
+    }
+
+    private void advance() {
+        if (Integer.bitCount(active) <= 1) {
+            return;
+        }
+        do {
+            current = (current + 1) % hands.length;
+        } while ((active & (1 << current)) == 0);
+    }
+}
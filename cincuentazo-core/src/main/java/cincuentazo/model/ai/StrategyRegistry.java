@@ -0,0 +1,111 @@
+package cincuentazo.model.ai;
+
+import cincuentazo.model.player.FirstCardStrategy;
+import cincuentazo.model.player.MachineStrategy;
+import cincuentazo.model.random.RandomSource;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.LongFunction;
+
+/**
+ * Machine strategies by name, so a game can seat each CPU with a different
+ * engine (see {@code Game(boolean, List, RandomGenerator)}) and tools can list
+ * and compare them. Names are case-insensitive.
+ * <p>
+ * Built in: {@code first} (the original first playable card), {@code random},
+ * {@code mcts} ({@link MctsStrategy} with its default 50 ms budget, searching
+ * on {@link MctsStrategy#searchPool()}) and
+ * {@code expectimax} ({@link ExpectimaxStrategy} at its default depth).
+ */
+public final class StrategyRegistry {
+
+    /**
+     * Name of the default strategy.
+     */
+    public static final String FIRST = "first";
+
+    private final Map<String, LongFunction<MachineStrategy>> factories = new ConcurrentSkipListMap<>();
+
+    /**
+     * Creates a registry with the built-in strategies.
+     */
+    public StrategyRegistry() {
+        register(FIRST, seed -> FirstCardStrategy.INSTANCE);
+        register("random", seed -> new RandomStrategy(RandomSource.forIndex(seed, 0)));
+        register("expectimax", seed -> new ExpectimaxStrategy());
+        register("mcts", seed -> new MctsStrategy(MctsStrategy.DEFAULT_BUDGET, Integer.MAX_VALUE,
+                MctsStrategy.searchPool(), seed));
+    }
+
+    private static class Holder {
+        private static final StrategyRegistry INSTANCE = new StrategyRegistry();
+    }
+
+    /**
+     * Returns the registry used by {@code Game}.
+     */
+    public static StrategyRegistry getDefault() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Registers (or replaces) a strategy.
+     *
+     * @param name    the name seats refer to
+     * @param factory creates one instance per seat from a seed, so seeded games stay reproducible
+     */
+    public void register(String name, LongFunction<MachineStrategy> factory) {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("A strategy needs a name");
+        }
+        factories.put(key(name), factory);
+    }
+
+    /**
+     * Returns whether a strategy is registered under the name.
+     */
+    public boolean contains(String name) {
+        return name != null && factories.containsKey(key(name));
+    }
+
+    /**
+     * Returns the registered names, in alphabetical order.
+     */
+    public List<String> getNames() {
+        return List.copyOf(factories.keySet());
+    }
+
+    /**
+     * Creates a strategy with a random seed.
+     *
+     * @param name the strategy name
+     * @return a new instance (or the shared one, for stateless strategies)
+     * @throws IllegalArgumentException if no strategy has that name
+     */
+    public MachineStrategy create(String name) {
+        return create(name, RandomSource.randomSeed());
+    }
+
+    /**
+     * Creates a strategy.
+     *
+     * @param name the strategy name
+     * @param seed seed for strategies that use randomness
+     * @return a new instance (or the shared one, for stateless strategies)
+     * @throws IllegalArgumentException if no strategy has that name
+     */
+    public MachineStrategy create(String name, long seed) {
+        LongFunction<MachineStrategy> factory = name == null ? null : factories.get(key(name));
+        if (factory == null) {
+            throw new IllegalArgumentException("Unknown machine strategy: " + name + " (known: " + getNames() + ")");
+        }
+        return factory.apply(seed);
+    }
+
+    private static String key(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,71 @@
+package cincuentazo.model.ai;
+
+/**
+ * Fixed-size cache of searched positions, indexed by their Zobrist hash.
+ * One entry per slot, in flat primitive arrays; a new result replaces the old
+ * one unless the old one is the same position searched deeper. Lookups verify
+ * the full 64-bit key, so two positions only clash if their hashes are equal.
+ * Not thread-safe: each search owns its table.
+ */
+final class TranspositionTable {
+
+    private final long[] keys;
+    private final float[] values;
+    private final byte[] depths; // searched depth + 1; 0 marks an empty slot
+    private final int mask;
+    private long hits;
+
+    /**
+     * Creates a table.
+     *
+     * @param entries number of slots, rounded up to a power of two
+     */
+    TranspositionTable(int entries) {
+        int size = Integer.highestOneBit(Math.max(2, entries - 1)) << 1;
+        this.keys = new long[size];
+        this.values = new float[size];
+        this.depths = new byte[size];
+        this.mask = size - 1;
+    }
+
+    /**
+     * Returns the stored value of a position searched at least as deep as asked.
+     *
+     * @return the value, or {@code NaN} on a miss
+     */
+    double probe(long key, int depth) {
+        int slot = (int) (key ^ (key >>> 32)) & mask;
+        if (depths[slot] > depth && keys[slot] == key) {
+            hits++;
+            return values[slot];
+        }
+        return Double.NaN;
+    }
+
+    /**
+     * Stores the value of a position searched to the given depth.
+     */
+    void store(long key, int depth, double value) {
+        int slot = (int) (key ^ (key >>> 32)) & mask;
+        if (keys[slot] == key && depths[slot] > depth + 1) {
+            return; // keep the deeper result
+        }
+        keys[slot] = key;
+        values[slot] = (float) value;
+        depths[slot] = (byte) (depth + 1);
+    }
+
+    /**
+     * Returns the number of slots.
+     */
+    int capacity() {
+        return keys.length;
+    }
+
+    /**
+     * Returns the number of successful probes so far.
+     */
+    long hits() {
+        return hits;
+    }
+}
@@ -0,0 +1,176 @@
+package cincuentazo.model.card;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Represents a playing card in the "Cincuentazo" game.
+ * Implements ICard interface.
+ * The 52 standard cards are interned: {@link #of(int)} and {@link #of(String, String)}
+ * always return the same canonical instances, and every card carries its rank,
+ * ordinal and effects precomputed so no string is parsed or compared during play.
+ */
+public class Card implements ICard {
+
+    /**
+     * Suits in ordinal order.
+     */
+    public static final String[] SUITS = {"Hearts", "Diamonds", "Clubs", "Spades"};
+
+    /**
+     * Symbols in rank order (rank 0 is the Ace, rank 12 the King).
+     */
+    public static final String[] SYMBOLS = {"A", "2", "3", "4", "5", "6", "7", "8", "9", "10", "J", "Q", "K"};
+
+    /**
+     * Number of ranks in a suit.
+     */
+    public static final int RANKS = SYMBOLS.length;
+
+    /**
+     * Number of cards in a standard deck.
+     */
+    public static final int DECK_SIZE = SUITS.length * RANKS;
+
+    /**
+     * Rank of the Ace, the only card whose effect depends on the table sum.
+     */
+    public static final int ACE = 0;
+
+    /**
+     * Highest table sum a card may leave on the table.
+     */
+    public static final int MAX_SUM = 50;
+
+    /**
+     * Base value of each rank, indexed by rank.
+     */
+    private static final int[] RANK_VALUES = {1, 2, 3, 4, 5, 6, 7, 8, 0, 10, -10, -10, -10};
+
+    private static final Card[] CANONICAL = new Card[DECK_SIZE];
+    private static final List<Card> STANDARD_DECK;
+
+    static {
+        for (int suit = 0; suit < SUITS.length; suit++) {
+            for (int rank = 0; rank < RANKS; rank++) {
+                CANONICAL[suit * RANKS + rank] = new Card(SYMBOLS[rank], SUITS[suit]);
+            }
+        }
+        STANDARD_DECK = Collections.unmodifiableList(Arrays.asList(CANONICAL));
+    }
+
+    private final String symbol; // "A", "2", ..., "10", "J", "Q", "K"
+    private final String suit;   // "Hearts", "Diamonds", "Clubs", "Spades"
+    private final int rank;      // 0..12, or -1 for a non-standard symbol
+    private final int ordinal;   // 0..51, or -1 for a non-standard card
+    private final int value;     // base numeric value; unused for a non-standard symbol
+    private final int highEffect; // effect when it keeps the sum <= 50 (10 for an Ace)
+    private final int lowEffect;  // effect otherwise (1 for an Ace)
+
+    public Card(String symbol, String suit) {
+        this.symbol = symbol;
+        this.suit = suit;
+        this.rank = indexOf(SYMBOLS, symbol);
+        int suitIndex = indexOf(SUITS, suit);
+        this.ordinal = (rank >= 0 && suitIndex >= 0) ? suitIndex * RANKS + rank : -1;
+        this.value = rank >= 0 ? RANK_VALUES[rank] : 0; // non-standard symbols are parsed on use
+        this.highEffect = rank == ACE ? 10 : value;
+        this.lowEffect = value;
+    }
+
+    /**
+     * Returns the canonical card with the given ordinal.
+     *
+     * @param ordinal the card ordinal, {@code suit * 13 + rank}
+     * @return the shared card instance
+     */
+    public static Card of(int ordinal) {
+        return CANONICAL[ordinal];
+    }
+
+    /**
+     * Returns the canonical card with the given symbol and suit.
+     *
+     * @param symbol the card symbol (e.g. "A", "10", "K")
+     * @param suit   the card suit (e.g. "Hearts")
+     * @return the shared card instance
+     * @throws IllegalArgumentException if the symbol or suit is not standard
+     */
+    public static Card of(String symbol, String suit) {
+        int rank = indexOf(SYMBOLS, symbol);
+        int suitIndex = indexOf(SUITS, suit);
+        if (rank < 0 || suitIndex < 0) {
+            throw new IllegalArgumentException("Not a standard card: " + symbol + " of " + suit);
+        }
+        return CANONICAL[suitIndex * RANKS + rank];
+    }
+
+    /**
+     * Returns the 52 canonical cards in ordinal order.
+     *
+     * @return an unmodifiable list of the standard deck
+     */
+    public static List<Card> standardDeck() {
+        return STANDARD_DECK;
+    }
+
+    private static int indexOf(String[] values, String value) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i].equals(value)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public String getSymbol() {
+        return symbol;
+    }
+
+    @Override
+    public String getSuit() {
+        return suit;
+    }
+
+    @Override
+    public int getRank() {
+        return rank;
+    }
+
+    @Override
+    public int getOrdinal() {
+        return ordinal;
+    }
+
+    /**
+     * Returns whether this is one of the 52 shared instances returned by {@link #of(int)}.
+     * Only canonical cards are answered from the precomputed tables of {@link PlayTable}.
+     */
+    public boolean isCanonical() {
+        return ordinal >= 0 && CANONICAL[ordinal] == this;
+    }
+
+    @Override
+    public int getNumericValue() {
+        if (rank < 0) {
+            return Integer.parseInt(symbol); // a numeric symbol outside the standard 13
+        }
+        return value; // base value for the Ace; may change in calculateEffect
+    }
+
+    @Override
+    public int calculateEffect(int currentSum) {
+        if (rank < 0) {
+            return getNumericValue();
+        }
+        // For Ace (A), choose 10 or 1 depending on which keeps sum <= 50
+        return (currentSum + highEffect <= MAX_SUM) ? highEffect : lowEffect;
+    }
+
+    @Override
+    public String toString() {
+        return symbol + " of " + suit;
+    }
+}
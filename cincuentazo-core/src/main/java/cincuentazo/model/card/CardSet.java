@@ -0,0 +1,259 @@
+package cincuentazo.model.card;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+/**
+ * Set of standard cards packed into the bits of a {@code long}.
+ * Bit {@code i} stands for the card with ordinal {@code i} ({@code suit * 13 + rank}),
+ * so each suit occupies a lane of 13 bits. Membership, union, counting and
+ * "which cards are playable at this sum" are all single bit operations.
+ * Cards that are not standard (ordinal -1) are ignored by {@link #add(Card)}.
+ */
+public class CardSet implements Iterable<Card> {
+
+    /**
+     * Bits of all 52 standard cards.
+     */
+    public static final long ALL = (1L << Card.DECK_SIZE) - 1;
+
+    /**
+     * Bits of the 13 ranks of one suit lane.
+     */
+    private static final long LANE = (1L << Card.RANKS) - 1;
+
+    private long bits;
+
+    /**
+     * Creates an empty set.
+     */
+    public CardSet() {
+    }
+
+    /**
+     * Creates a set from its bit representation.
+     *
+     * @param bits one bit per card ordinal
+     */
+    public CardSet(long bits) {
+        this.bits = bits & ALL;
+    }
+
+    /**
+     * Creates a set holding the given cards.
+     *
+     * @param cards the cards to add
+     * @return the new set
+     */
+    public static CardSet of(Iterable<? extends Card> cards) {
+        CardSet set = new CardSet();
+        for (Card card : cards) {
+            set.add(card);
+        }
+        return set;
+    }
+
+    /**
+     * Returns the bit of a card.
+     *
+     * @param card a standard card
+     * @return a mask with only that card's bit set
+     */
+    public static long bit(Card card) {
+        return 1L << card.getOrdinal();
+    }
+
+    /**
+     * Widens a 13-bit rank mask to every suit.
+     *
+     * @param rankMask bit {@code r} set for each rank {@code r}
+     * @return the card bits of all those ranks in every suit
+     */
+    public static long spreadRanks(long rankMask) {
+        rankMask &= LANE;
+        return rankMask | rankMask << Card.RANKS | rankMask << (2 * Card.RANKS) | rankMask << (3 * Card.RANKS);
+    }
+
+    /**
+     * Folds card bits onto a single 13-bit rank mask.
+     *
+     * @param bits card bits
+     * @return bit {@code r} set if any card of rank {@code r} is present
+     */
+    public static int foldRanks(long bits) {
+        return (int) ((bits | bits >>> Card.RANKS | bits >>> (2 * Card.RANKS) | bits >>> (3 * Card.RANKS)) & LANE);
+    }
+
+    /**
+     * Returns the 13-bit mask of ranks that can be played at the given table sum.
+     *
+     * @param sum the current table sum
+     * @return bit {@code r} set if rank {@code r} keeps the sum at or below 50
+     */
+    public static int playableRanks(int sum) {
+        return PlayTable.playableRanks(sum);
+    }
+
+    /**
+     * Returns the bits of every card that can be played at the given table sum.
+     *
+     * @param sum the current table sum
+     * @return the playable card bits
+     */
+    public static long playableMask(int sum) {
+        return PlayTable.playableCards(sum);
+    }
+
+    /**
+     * Adds a card.
+     *
+     * @param card the card to add
+     * @return {@code true} if the card was not already present
+     */
+    public boolean add(Card card) {
+        if (card.getOrdinal() < 0) {
+            return false;
+        }
+        long before = bits;
+        bits |= bit(card);
+        return bits != before;
+    }
+
+    /**
+     * Removes a card.
+     *
+     * @param card the card to remove
+     * @return {@code true} if the card was present
+     */
+    public boolean remove(Card card) {
+        if (card.getOrdinal() < 0) {
+            return false;
+        }
+        long before = bits;
+        bits &= ~bit(card);
+        return bits != before;
+    }
+
+    /**
+     * Returns whether the card is in the set.
+     */
+    public boolean contains(Card card) {
+        return card.getOrdinal() >= 0 && (bits & bit(card)) != 0;
+    }
+
+    /**
+     * Adds every card of another set.
+     */
+    public void addAll(CardSet other) {
+        bits |= other.bits;
+    }
+
+    /**
+     * Removes every card.
+     */
+    public void clear() {
+        bits = 0;
+    }
+
+    /**
+     * Returns the number of cards in the set.
+     */
+    public int size() {
+        return Long.bitCount(bits);
+    }
+
+    /**
+     * Returns whether the set is empty.
+     */
+    public boolean isEmpty() {
+        return bits == 0;
+    }
+
+    /**
+     * Returns the bit representation of the set.
+     */
+    public long bits() {
+        return bits;
+    }
+
+    /**
+     * Returns the mask of ranks present in the set.
+     */
+    public int rankMask() {
+        return foldRanks(bits);
+    }
+
+    /**
+     * Returns whether any card in the set can be played at the given sum.
+     *
+     * @param sum the current table sum
+     */
+    public boolean hasPlayable(int sum) {
+        return (bits & playableMask(sum)) != 0;
+    }
+
+    /**
+     * Returns the cards of the set that can be played at the given sum.
+     *
+     * @param sum the current table sum
+     * @return a new set with the playable cards
+     */
+    public CardSet playable(int sum) {
+        return new CardSet(bits & playableMask(sum));
+    }
+
+    /**
+     * Calls the action for each card, in ordinal order, without allocating.
+     */
+    @Override
+    public void forEach(Consumer<? super Card> action) {
+        for (long rest = bits; rest != 0; rest &= rest - 1) {
+            action.accept(Card.of(Long.numberOfTrailingZeros(rest)));
+        }
+    }
+
+    @Override
+    public Iterator<Card> iterator() {
+        return new Iterator<>() {
+            private long rest = bits;
+
+            @Override
+            public boolean hasNext() {
+                return rest != 0;
+            }
+
+            @Override
+            public Card next() {
+                if (rest == 0) {
+                    throw new NoSuchElementException();
+                }
+                int ordinal = Long.numberOfTrailingZeros(rest);
+                rest &= rest - 1;
+                return Card.of(ordinal);
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof CardSet other && other.bits == bits;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(bits);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        forEach(card -> {
+            if (sb.length() > 1) {
+                sb.append(", ");
+            }
+            sb.append(card);
+        });
+        return sb.append(']').toString();
+    }
+}
@@ -28,6 +28,18 @@ public interface ICard {
      */
     String getSuit();
 
+    /**
+     * Returns the rank of the card, from 0 (Ace) to 12 (King),
+     * or -1 if the symbol is not a standard one.
+     */
+    int getRank();
+
+    /**
+     * Returns the position of the card in a standard deck ({@code suit * 13 + rank}),
+     * or -1 if the card is not a standard one.
+     */
+    int getOrdinal();
+
     /**
      * Returns a readable representation of the card (symbol + suit).
      */
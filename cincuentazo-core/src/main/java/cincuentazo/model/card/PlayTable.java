@@ -0,0 +1,113 @@
+package cincuentazo.model.card;
+
+/**
+ * Precomputed playability tables, indexed by the table sum.
+ * For each sum the tables hold the 13-bit mask of playable ranks, the same
+ * mask widened to the 52 card bits of {@link CardSet}, and the effect of every
+ * rank. Move generation is then one array read plus one AND with the hand bits.
+ * <p>
+ * The tables cover sums from {@link #MIN_SUM} to {@link #MAX_SUM}. Every sum at
+ * or below 40 behaves the same (all ranks fit and the Ace counts 10), and from 61
+ * up nothing fits at all, so sums outside the range are clamped to its ends
+ * without changing any answer.
+ */
+public final class PlayTable {
+
+    /**
+     * Lowest sum stored in the tables; lower sums share its entry.
+     */
+    public static final int MIN_SUM = -130;
+
+    /**
+     * Highest sum stored in the tables; higher sums share its entry.
+     */
+    public static final int MAX_SUM = Card.MAX_SUM + 11;
+
+    private static final int SIZE = MAX_SUM - MIN_SUM + 1;
+
+    private static final int[] PLAYABLE_RANKS = new int[SIZE];
+    private static final long[] PLAYABLE_CARDS = new long[SIZE];
+    private static final byte[] EFFECTS = new byte[SIZE * Card.RANKS];
+
+    static {
+        for (int i = 0; i < SIZE; i++) {
+            int sum = MIN_SUM + i;
+            int mask = 0;
+            for (int rank = 0; rank < Card.RANKS; rank++) {
+                int value = Card.of(rank).getNumericValue();
+                int effect = (rank == Card.ACE && sum + 10 <= Card.MAX_SUM) ? 10 : value;
+                EFFECTS[i * Card.RANKS + rank] = (byte) effect;
+                if (sum + effect <= Card.MAX_SUM) {
+                    mask |= 1 << rank;
+                }
+            }
+            PLAYABLE_RANKS[i] = mask;
+            PLAYABLE_CARDS[i] = CardSet.spreadRanks(mask);
+        }
+    }
+
+    private PlayTable() {
+    }
+
+    private static int index(int sum) {
+        return Math.min(Math.max(sum, MIN_SUM), MAX_SUM) - MIN_SUM;
+    }
+
+    /**
+     * Returns the mask of ranks that keep the sum at or below 50.
+     *
+     * @param sum the current table sum
+     * @return bit {@code r} set if rank {@code r} can be played
+     */
+    public static int playableRanks(int sum) {
+        return PLAYABLE_RANKS[index(sum)];
+    }
+
+    /**
+     * Returns the card bits (see {@link CardSet}) of every playable card.
+     *
+     * @param sum the current table sum
+     * @return the playable card bits
+     */
+    public static long playableCards(int sum) {
+        return PLAYABLE_CARDS[index(sum)];
+    }
+
+    /**
+     * Returns the effect of a rank at the given sum.
+     *
+     * @param sum  the current table sum
+     * @param rank the rank, 0 (Ace) to 12 (King)
+     * @return how much the card adds to the sum
+     */
+    public static int effect(int sum, int rank) {
+        return EFFECTS[index(sum) * Card.RANKS + rank];
+    }
+
+    /**
+     * Returns the table sum after playing a card of the given rank.
+     *
+     * @param sum  the current table sum
+     * @param rank the rank, 0 (Ace) to 12 (King)
+     * @return the new sum
+     */
+    public static int resultingSum(int sum, int rank) {
+        return sum + EFFECTS[index(sum) * Card.RANKS + rank];
+    }
+
+    /**
+     * Returns whether the card can be played at the given sum.
+     * Canonical cards are answered from the table; any other card instance
+     * (for example a subclass with its own rule) is asked for its effect.
+     *
+     * @param sum  the current table sum
+     * @param card the card to check
+     * @return {@code true} if the card keeps the sum at or below 50
+     */
+    public static boolean canPlay(int sum, Card card) {
+        if (card.isCanonical()) {
+            return (PLAYABLE_CARDS[index(sum)] & (1L << card.getOrdinal())) != 0;
+        }
+        return sum + card.calculateEffect(sum) <= Card.MAX_SUM;
+    }
+}
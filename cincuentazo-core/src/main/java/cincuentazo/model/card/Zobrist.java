@@ -0,0 +1,149 @@
+package cincuentazo.model.card;
+
+import java.util.SplittableRandom;
+
+/**
+ * Zobrist keys for hashing game positions.
+ * A position's hash is the XOR of one random 64-bit key per fact: each card in
+ * each seat's hand, each card in the deck, the table sum, the seat to move,
+ * each eliminated seat. Moving a card from one place to another is then two
+ * XORs, so hands, deck and game keep their hashes up to date in O(1) per card
+ * moved. Cards on the table have no key: they are whatever is neither in a hand
+ * nor in the deck. Searches that recycle the table add the key of the top card,
+ * the one card a recycle keeps. The keys come from a fixed seed, so hashes are
+ * stable between runs.
+ */
+public final class Zobrist {
+
+    /**
+     * Number of seats that have keys.
+     */
+    public static final int MAX_SEATS = 16;
+
+    private static final long[][] HAND = new long[MAX_SEATS][Card.DECK_SIZE];
+    private static final long[][] HAND_SIZE = new long[MAX_SEATS][8];
+    private static final long[] DECK = new long[Card.DECK_SIZE];
+    private static final long[] SUM = new long[PlayTable.MAX_SUM - PlayTable.MIN_SUM + 1];
+    private static final long[] TURN = new long[MAX_SEATS];
+    private static final long[] ELIMINATED = new long[MAX_SEATS];
+    private static final long[] TOP = new long[Card.DECK_SIZE];
+
+    static {
+        SplittableRandom random = new SplittableRandom(0x5A0B_2157L);
+        for (int seat = 0; seat < MAX_SEATS; seat++) {
+            for (int card = 0; card < Card.DECK_SIZE; card++) {
+                HAND[seat][card] = random.nextLong();
+            }
+            for (int size = 0; size < HAND_SIZE[seat].length; size++) {
+                HAND_SIZE[seat][size] = random.nextLong();
+            }
+            TURN[seat] = random.nextLong();
+            ELIMINATED[seat] = random.nextLong();
+        }
+        for (int card = 0; card < Card.DECK_SIZE; card++) {
+            DECK[card] = random.nextLong();
+        }
+        for (int i = 0; i < SUM.length; i++) {
+            SUM[i] = random.nextLong();
+        }
+        for (int card = 0; card < Card.DECK_SIZE; card++) {
+            TOP[card] = random.nextLong();
+        }
+    }
+
+    private Zobrist() {
+    }
+
+    /**
+     * Returns the key of a card held by a seat.
+     *
+     * @param seat    the seat, below {@link #MAX_SEATS}
+     * @param ordinal the card ordinal
+     */
+    public static long hand(int seat, int ordinal) {
+        return HAND[seat][ordinal];
+    }
+
+    /**
+     * Returns the key of a seat holding a number of cards whose identity is unknown.
+     * Used by searches that see only the size of the other hands.
+     *
+     * @param seat the seat, below {@link #MAX_SEATS}
+     * @param size the number of cards, 0 to 7
+     */
+    public static long handSize(int seat, int size) {
+        return HAND_SIZE[seat][size];
+    }
+
+    /**
+     * Returns the key of a card in the deck.
+     *
+     * @param ordinal the card ordinal
+     */
+    public static long deck(int ordinal) {
+        return DECK[ordinal];
+    }
+
+    /**
+     * Returns the key of a table sum; sums outside the {@link PlayTable} range share the key of its ends.
+     *
+     * @param sum the table sum
+     */
+    public static long sum(int sum) {
+        return SUM[Math.min(Math.max(sum, PlayTable.MIN_SUM), PlayTable.MAX_SUM) - PlayTable.MIN_SUM];
+    }
+
+    /**
+     * Returns the key of the card on top of the table.
+     *
+     * @param ordinal the card ordinal
+     */
+    public static long top(int ordinal) {
+        return TOP[ordinal];
+    }
+
+    /**
+     * Returns the key of the seat to move.
+     *
+     * @param seat the seat, below {@link #MAX_SEATS}
+     */
+    public static long turn(int seat) {
+        return TURN[seat];
+    }
+
+    /**
+     * Returns the key of an eliminated seat.
+     *
+     * @param seat the seat, below {@link #MAX_SEATS}
+     */
+    public static long eliminated(int seat) {
+        return ELIMINATED[seat];
+    }
+
+    /**
+     * Hashes a whole hand from scratch.
+     *
+     * @param seat the seat holding the cards
+     * @param bits the cards, as {@link CardSet} bits
+     */
+    public static long handHash(int seat, long bits) {
+        long hash = 0;
+        for (long rest = bits; rest != 0; rest &= rest - 1) {
+            hash ^= HAND[seat][Long.numberOfTrailingZeros(rest)];
+        }
+        return hash;
+    }
+
+    /**
+     * Hashes a whole deck composition from scratch.
+     *
+     * @param bits the cards, as {@link CardSet} bits
+     */
+    public static long deckHash(long bits) {
+        long hash = 0;
+        for (long rest = bits; rest != 0; rest &= rest - 1) {
+            hash ^= DECK[Long.numberOfTrailingZeros(rest)];
+        }
+        return hash;
+    }
+}
@@ -2,11 +2,10 @@ package cincuentazo.model.deck;
 
 import cincuentazo.model.exceptions.EmptyDeckException;
 import cincuentazo.model.card.Card;
+import cincuentazo.model.random.RandomSource;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
 import java.util.Stack;
+import java.util.random.RandomGenerator;
 
 /**
  * Represents the deck of cards used in the "Cincuentazo" game.
@@ -15,32 +14,36 @@ import java.util.Stack;
 public class Deck extends DeckAdapter {
 
     private final Stack<Card> cards;
+    private final RandomGenerator random;
 
     public Deck() {
-        cards = new Stack<>();
+        this(RandomSource.newGenerator());
+    }
+
+    /**
+     * Creates a deck that shuffles with the given generator.
+     * @param random the generator used by {@link #shuffle()}
+     */
+    public Deck(RandomGenerator random) {
+        this.cards = new Stack<>();
+        this.random = random;
         initializeDeck();
         shuffle();
     }
 
     /**
-     * Initializes the deck with 52 standard cards.
+     * Initializes the deck with the 52 canonical cards.
      */
     private void initializeDeck() {
-        String[] suits = {"Hearts", "Diamonds", "Clubs", "Spades"};
-        String[] symbols = {"A", "2", "3", "4", "5", "6", "7", "8", "9", "10", "J", "Q", "K"};
-
-        for (String suit : suits) {
-            for (String symbol : symbols) {
-                cards.push(new Card(symbol, suit));
-            }
-        }
+        // Canonical cards are shared between decks, so no card is allocated here
+        cards.addAll(Card.standardDeck());
     }
 
     /**
      * Randomly shuffles the deck.
      */
     public void shuffle() {
-        Collections.shuffle(cards);
+        RandomSource.shuffle(cards, random);
     }
 
     @Override
@@ -51,6 +54,11 @@ public class Deck extends DeckAdapter {
         throw new EmptyDeckException("No more cards left in the deck!");
     }
 
+    @Override
+    public Card pollCard() {
+        return cards.isEmpty() ? null : cards.pop();
+    }
+
     /**
      * Adds a card to the bottom of the deck (used when a player is eliminated).
      * @param card the card to be added
@@ -82,27 +90,4 @@ public class Deck extends DeckAdapter {
         cards.addAll(recycledCards);
         shuffle();
     }
-
-// Inner static class responsible for creating card
-
-    private static class CardFactory {
-        private static final String[] SUITS= {"Hearts", "Diamonds", "Clubs", "Spades"};
-        private static final String[] Symbols= {"A", "2", "3", "4", "5", "6", "7", "8", "9", "10", "J", "Q", "K"};
-
-        //Creates a standart 52-card deck
-
-        static List<Card> createStandardDeck() {
-            List<Card> deck = new ArrayList<>();
-            for (String suit : SUITS) {
-                for (String symbol : Symbols) {
-                    deck.add(new Card(symbol, suit));
-                }
-
-            }
-            return deck;
-        }
-
-    }
 }
-
-
@@ -0,0 +1,106 @@
+package cincuentazo.model.deck;
+
+import cincuentazo.model.exceptions.EmptyDeckException;
+import cincuentazo.model.card.Card;
+
+import java.util.Collection;
+import java.util.Stack;
+
+/**
+ * Interface that defines the basic behavior of any deck used in the game.
+ */
+public interface IDeck {
+
+    /**
+     * Shuffles the deck.
+     */
+    void shuffle();
+
+    /**
+     * Draws the top card from the deck.
+     * @return the drawn Card
+     * @throws EmptyDeckException if the deck is empty
+     */
+    Card drawCard() throws EmptyDeckException;
+
+    /**
+     * Draws the top card from the deck without throwing.
+     * @return the drawn Card, or {@code null} if the deck is empty
+     */
+    default Card pollCard() {
+        if (remainingCards() == 0) {
+            return null;
+        }
+        try {
+            return drawCard();
+        } catch (EmptyDeckException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Adds one card to the bottom of the deck.
+     * @param card the card to add
+     */
+    void addCardToBottom(Card card);
+
+    /**
+     * Adds multiple cards to the bottom of the deck, popping them off the stack.
+     * The stack is empty afterwards.
+     * @param newCards the stack of cards to add
+     */
+    void addCardsToBottom(Stack<Card> newCards);
+
+    /**
+     * Copies multiple cards to the bottom of the deck without modifying the source.
+     * Cards are added in iteration order, each one beneath the previous one.
+     * Unlike {@link #addCardsToBottom(Stack)}, the caller still holds the cards
+     * and must clear the source itself if they are moving to the deck.
+     * @param newCards the cards to add
+     */
+    default void copyCardsToBottom(Collection<? extends Card> newCards) {
+        for (Card card : newCards) {
+            addCardToBottom(card);
+        }
+    }
+
+    /**
+     * Draws up to {@code count} cards from the top of the deck.
+     * Stops early, without throwing, when the deck runs out.
+     * @param target collection that receives the drawn cards
+     * @param count maximum number of cards to draw
+     * @return the number of cards actually drawn
+     */
+    default int drawCards(Collection<? super Card> target, int count) {
+        int drawn = 0;
+        while (drawn < count && remainingCards() > 0) {
+            try {
+                target.add(drawCard());
+            } catch (EmptyDeckException e) {
+                break;
+            }
+            drawn++;
+        }
+        return drawn;
+    }
+
+    /**
+     * Returns the remaining number of cards in the deck.
+     */
+    int remainingCards();
+
+    /**
+     * Resets the deck using another stack of cards.
+     * @param recycledCards cards to reinsert and shuffle
+     */
+    void resetDeck(Stack<Card> recycledCards);
+
+    /**
+     * Resets the deck using any collection of cards, without modifying the source.
+     * @param recycledCards cards to reinsert and shuffle
+     */
+    default void resetDeck(Collection<? extends Card> recycledCards) {
+        copyCardsToBottom(recycledCards);
+        shuffle();
+    }
+}
@@ -0,0 +1,241 @@
+package cincuentazo.model.deck;
+
+import cincuentazo.model.card.Card;
+import cincuentazo.model.card.CardSet;
+import cincuentazo.model.card.Zobrist;
+import cincuentazo.model.exceptions.EmptyDeckException;
+import cincuentazo.model.random.RandomSource;
+
+import java.util.Collection;
+import java.util.Stack;
+import java.util.random.RandomGenerator;
+
+/**
+ * Deck backed by an unsynchronized ring buffer.
+ * Drawing from the top and adding to the bottom are both O(1), and the bulk
+ * operations copy cards straight into the buffer, so recycling the table and
+ * returning an eliminated player's hand stay linear.
+ * The deck also keeps its composition as a {@link CardSet}, updated in O(1)
+ * on every draw and insert, so the remaining cards are known without a scan,
+ * together with its {@link Zobrist} hash.
+ */
+public class RingDeck extends DeckAdapter {
+
+    private static final int INITIAL_CAPACITY = 64; // power of two, holds a full deck
+
+    private final RandomGenerator random;
+    private Card[] cards;
+    private int bottom; // index of the bottom card
+    private int size;
+    private final int[] copies = new int[Card.DECK_SIZE]; // copies of each card in the deck
+    private long composition;
+    private long hash;
+
+    /**
+     * Creates a shuffled deck with the 52 canonical cards.
+     */
+    public RingDeck() {
+        this(RandomSource.newGenerator());
+    }
+
+    /**
+     * Creates a deck with the 52 canonical cards, shuffled with the given generator.
+     *
+     * @param random the generator used by {@link #shuffle()}
+     */
+    public RingDeck(RandomGenerator random) {
+        this(Card.standardDeck(), random);
+        shuffle();
+    }
+
+    /**
+     * Creates a deck holding the given cards, in order, without shuffling.
+     * The first card is at the bottom and the last one on top.
+     *
+     * @param initialCards the cards to put in the deck
+     */
+    public RingDeck(Collection<? extends Card> initialCards) {
+        this(initialCards, RandomSource.newGenerator());
+    }
+
+    /**
+     * Creates a deck holding the given cards, in order, without shuffling.
+     *
+     * @param initialCards the cards to put in the deck, bottom first
+     * @param random       the generator used by {@link #shuffle()}
+     */
+    public RingDeck(Collection<? extends Card> initialCards, RandomGenerator random) {
+        this.random = random;
+        cards = new Card[Math.max(INITIAL_CAPACITY, Integer.highestOneBit(Math.max(1, initialCards.size())) << 1)];
+        for (Card card : initialCards) {
+            cards[size++] = card;
+            track(card);
+        }
+    }
+
+    /**
+     * Randomly shuffles the deck in place (Fisher–Yates).
+     */
+    @Override
+    public void shuffle() {
+        int mask = cards.length - 1;
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int a = (bottom + i) & mask;
+            int b = (bottom + j) & mask;
+            Card tmp = cards[a];
+            cards[a] = cards[b];
+            cards[b] = tmp;
+        }
+    }
+
+    @Override
+    public Card drawCard() throws EmptyDeckException {
+        Card card = pollCard();
+        if (card == null) {
+            throw new EmptyDeckException("No more cards left in the deck!");
+        }
+        return card;
+    }
+
+    @Override
+    public Card pollCard() {
+        if (size == 0) {
+            return null;
+        }
+        int top = (bottom + --size) & (cards.length - 1);
+        Card card = cards[top];
+        cards[top] = null;
+        untrack(card);
+        return card;
+    }
+
+    @Override
+    public int drawCards(Collection<? super Card> target, int count) {
+        int drawn = Math.min(count, size);
+        int mask = cards.length - 1;
+        for (int i = 0; i < drawn; i++) {
+            int top = (bottom + --size) & mask;
+            target.add(cards[top]);
+            untrack(cards[top]);
+            cards[top] = null;
+        }
+        return drawn;
+    }
+
+    /**
+     * Adds a card to the bottom of the deck in constant time.
+     * @param card the card to be added
+     */
+    @Override
+    public void addCardToBottom(Card card) {
+        ensureCapacity(size + 1);
+        bottom = (bottom - 1) & (cards.length - 1);
+        cards[bottom] = card;
+        size++;
+        track(card);
+    }
+
+    /**
+     * Adds multiple cards to the bottom, popping them from the stack like {@link Deck} does.
+     */
+    @Override
+    public void addCardsToBottom(Stack<Card> newCards) {
+        ensureCapacity(size + newCards.size());
+        while (!newCards.isEmpty()) {
+            addCardToBottom(newCards.pop());
+        }
+    }
+
+    @Override
+    public void copyCardsToBottom(Collection<? extends Card> newCards) {
+        ensureCapacity(size + newCards.size());
+        for (Card card : newCards) {
+            addCardToBottom(card);
+        }
+    }
+
+    /**
+     * Returns the number of remaining cards in the deck.
+     */
+    @Override
+    public int remainingCards() {
+        return size;
+    }
+
+    /**
+     * Adds the recycled cards and shuffles the whole deck.
+     */
+    @Override
+    public void resetDeck(Stack<Card> recycledCards) {
+        resetDeck((Collection<Card>) recycledCards);
+    }
+
+    @Override
+    public void resetDeck(Collection<? extends Card> recycledCards) {
+        ensureCapacity(size + recycledCards.size());
+        int mask = cards.length - 1;
+        for (Card card : recycledCards) {
+            cards[(bottom + size++) & mask] = card;
+            track(card);
+        }
+        shuffle();
+    }
+
+    /**
+     * Returns the bits of the cards left in the deck (see {@link CardSet}).
+     */
+    public long getCompositionBits() {
+        return composition;
+    }
+
+    /**
+     * Returns a snapshot of the cards left in the deck.
+     */
+    public CardSet getComposition() {
+        return new CardSet(composition);
+    }
+
+    /**
+     * Returns the {@link Zobrist} hash of the deck's composition (not of its order).
+     */
+    public long getZobristHash() {
+        return hash;
+    }
+
+    private void track(Card card) {
+        int ordinal = card.getOrdinal();
+        if (ordinal >= 0 && copies[ordinal]++ == 0) {
+            composition |= 1L << ordinal;
+            hash ^= Zobrist.deck(ordinal);
+        }
+    }
+
+    private void untrack(Card card) {
+        int ordinal = card.getOrdinal();
+        if (ordinal >= 0 && --copies[ordinal] == 0) {
+            composition &= ~(1L << ordinal);
+            hash ^= Zobrist.deck(ordinal);
+        }
+    }
+
+    /**
+     * Grows the buffer (doubling it) so it can hold at least the given number of cards.
+     */
+    private void ensureCapacity(int required) {
+        if (required <= cards.length) {
+            return;
+        }
+        int capacity = cards.length;
+        while (capacity < required) {
+            capacity <<= 1;
+        }
+        Card[] grown = new Card[capacity];
+        int mask = cards.length - 1;
+        for (int i = 0; i < size; i++) {
+            grown[i] = cards[(bottom + i) & mask];
+        }
+        cards = grown;
+        bottom = 0;
+    }
+}
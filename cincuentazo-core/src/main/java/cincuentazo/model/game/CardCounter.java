@@ -0,0 +1,243 @@
+package cincuentazo.model.game;
+
+import cincuentazo.model.card.Card;
+import cincuentazo.model.card.PlayTable;
+
+/**
+ * Running count of where the cards of a game are, by rank: in the deck, on the
+ * table, or in each seat's hand.
+ * The {@link Game} updates it as cards move: one counter per card on a play,
+ * draw or elimination, one pass over the 13 ranks on a recycle. Every query is
+ * answered from the counters without looking at the deck, hands or table,
+ * in constant time (at most one step per rank).
+ * <p>
+ * Queries "from a seat" count what that seat cannot see: the deck plus the
+ * other hands, which look alike to it. Only standard cards are counted,
+ * as in {@link cincuentazo.model.card.CardSet}.
+ * Like the live getters of {@link Game}, it must be read on the thread applying the moves.
+ */
+public final class CardCounter {
+
+    private final int[] deck = new int[Card.RANKS];
+    private final int[] table = new int[Card.RANKS];
+    private final int[] held = new int[Card.RANKS];   // all hands together
+    private final int[][] hands;                      // [seat][rank]
+    private final int[] handTotals;
+    private int deckTotal;
+    private int tableTotal;
+    private int heldTotal;
+
+    /**
+     * Creates a counter with the given cards in the deck, and empty hands and table.
+     *
+     * @param deckBits the deck composition as {@link cincuentazo.model.card.CardSet} bits
+     * @param seats number of seats
+     */
+    CardCounter(long deckBits, int seats) {
+        this.hands = new int[seats][Card.RANKS];
+        this.handTotals = new int[seats];
+        for (long bits = deckBits; bits != 0; bits &= bits - 1) {
+            deck[Long.numberOfTrailingZeros(bits) % Card.RANKS]++;
+            deckTotal++;
+        }
+    }
+
+    /**
+     * Records a card moving from the deck to a seat's hand.
+     */
+    void drawn(int seat, Card card) {
+        if (card.getOrdinal() < 0) {
+            return;
+        }
+        int rank = card.getRank();
+        deck[rank]--;
+        deckTotal--;
+        hands[seat][rank]++;
+        handTotals[seat]++;
+        held[rank]++;
+        heldTotal++;
+    }
+
+    /**
+     * Records a card moving from a seat's hand to the table.
+     */
+    void played(int seat, Card card) {
+        if (card.getOrdinal() < 0) {
+            return;
+        }
+        int rank = card.getRank();
+        hands[seat][rank]--;
+        handTotals[seat]--;
+        held[rank]--;
+        heldTotal--;
+        table[rank]++;
+        tableTotal++;
+    }
+
+    /**
+     * Records a card moving from the deck straight to the table (the starting card).
+     */
+    void turnedUp(Card card) {
+        if (card.getOrdinal() < 0) {
+            return;
+        }
+        int rank = card.getRank();
+        deck[rank]--;
+        deckTotal--;
+        table[rank]++;
+        tableTotal++;
+    }
+
+    /**
+     * Records a card put on the table from outside the game.
+     */
+    void added(Card card) {
+        if (card.getOrdinal() >= 0) {
+            table[card.getRank()]++;
+            tableTotal++;
+        }
+    }
+
+    /**
+     * Records a card moving from a seat's hand back to the deck (elimination).
+     */
+    void returned(int seat, Card card) {
+        if (card.getOrdinal() < 0) {
+            return;
+        }
+        int rank = card.getRank();
+        hands[seat][rank]--;
+        handTotals[seat]--;
+        held[rank]--;
+        heldTotal--;
+        deck[rank]++;
+        deckTotal++;
+    }
+
+    /**
+     * Records the table going back into the deck, except the top card.
+     *
+     * @param top the card left on the table
+     */
+    void recycled(Card top) {
+        for (int rank = 0; rank < Card.RANKS; rank++) {
+            deck[rank] += table[rank];
+            table[rank] = 0;
+        }
+        deckTotal += tableTotal;
+        tableTotal = 0;
+        if (top.getOrdinal() >= 0) {
+            deck[top.getRank()]--;
+            deckTotal--;
+            table[top.getRank()] = 1;
+            tableTotal = 1;
+        }
+    }
+
+    /**
+     * Returns how many cards of a rank are in the deck.
+     *
+     * @param rank 0 (Ace) to 12 (King)
+     */
+    public int getDeckCount(int rank) {
+        return deck[rank];
+    }
+
+    /**
+     * Returns how many cards of a rank were played to the table since the last recycle.
+     *
+     * @param rank 0 (Ace) to 12 (King)
+     */
+    public int getTableCount(int rank) {
+        return table[rank];
+    }
+
+    /**
+     * Returns how many cards of a rank a seat holds.
+     *
+     * @param seat the seat
+     * @param rank 0 (Ace) to 12 (King)
+     */
+    public int getHandCount(int seat, int rank) {
+        return hands[seat][rank];
+    }
+
+    /**
+     * Returns how many cards of a rank a seat cannot see: those in the deck and in the other hands.
+     *
+     * @param seat the seat
+     * @param rank 0 (Ace) to 12 (King)
+     */
+    public int getUnseenCount(int seat, int rank) {
+        return deck[rank] + held[rank] - hands[seat][rank];
+    }
+
+    /**
+     * Returns how many cards a seat cannot see.
+     *
+     * @param seat the seat
+     */
+    public int getUnseenTotal(int seat) {
+        return deckTotal + heldTotal - handTotals[seat];
+    }
+
+    /**
+     * Returns the number of cards in the deck.
+     */
+    public int getDeckTotal() {
+        return deckTotal;
+    }
+
+    /**
+     * Returns the number of cards on the table since the last recycle.
+     */
+    public int getTableTotal() {
+        return tableTotal;
+    }
+
+    /**
+     * Returns how many unseen cards, from a seat, could be played at the given sum.
+     *
+     * @param seat the seat
+     * @param sum  the table sum
+     */
+    public int getUnseenPlayable(int seat, int sum) {
+        int count = 0;
+        for (int ranks = PlayTable.playableRanks(sum); ranks != 0; ranks &= ranks - 1) {
+            count += getUnseenCount(seat, Integer.numberOfTrailingZeros(ranks));
+        }
+        return count;
+    }
+
+    /**
+     * Returns the chance, as judged by a seat, that the next card it draws can
+     * be played at the given sum. Every unseen card is equally likely to be on
+     * top of the deck.
+     *
+     * @param seat the seat
+     * @param sum  the table sum the card would be played at
+     * @return a probability, or 0 if the seat sees every card
+     */
+    public double getDrawPlayableChance(int seat, int sum) {
+        int unseen = getUnseenTotal(seat);
+        return unseen == 0 ? 0 : (double) getUnseenPlayable(seat, sum) / unseen;
+    }
+
+    /**
+     * Returns the chance that the next card of the deck, as it actually is, can be played at the given sum.
+     * This uses the real deck composition, which no player can see; it is meant for simulations and tests.
+     *
+     * @param sum the table sum the card would be played at
+     * @return a probability, or 0 if the deck is empty
+     */
+    public double getDeckPlayableChance(int sum) {
+        if (deckTotal == 0) {
+            return 0;
+        }
+        int count = 0;
+        for (int ranks = PlayTable.playableRanks(sum); ranks != 0; ranks &= ranks - 1) {
+            count += deck[Integer.numberOfTrailingZeros(ranks)];
+        }
+        return (double) count / deckTotal;
+    }
+}
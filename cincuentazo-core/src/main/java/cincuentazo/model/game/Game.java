@@ -0,0 +1,881 @@
+package cincuentazo.model.game;
+
+
+import cincuentazo.model.ai.StrategyRegistry;
+import cincuentazo.model.exceptions.EmptyDeckException;
+import cincuentazo.model.exceptions.InvalidMoveException;
+import cincuentazo.model.card.Card;
+import cincuentazo.model.card.CardSet;
+import cincuentazo.model.card.PlayTable;
+import cincuentazo.model.card.Zobrist;
+import cincuentazo.model.deck.IDeck;
+import cincuentazo.model.deck.RingDeck;
+import cincuentazo.model.log.GameLogger;
+import cincuentazo.model.log.LogLevel;
+import cincuentazo.model.player.FirstCardStrategy;
+import cincuentazo.model.player.MachineStrategy;
+import cincuentazo.model.player.Player;
+import cincuentazo.model.player.TurnView;
+import cincuentazo.model.random.RandomSource;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.random.RandomGenerator;
+
+/**
+ * Represents the main game logic of "Cincuentazo".
+ * Controls players, turns, table sum, and game flow.
+ * The state can be read as an immutable {@link GameSnapshot}. Once
+ * {@link #shareSnapshots()} has been called the game publishes one after every
+ * change, and readers on other threads should use {@link #getSnapshot()}
+ * instead of the live getters; until then snapshots are only built on demand.
+ */
+public class Game {
+
+    private static final GameLogger LOG = GameLogger.getDefault();
+
+    private final RingDeck deck;
+    private final RandomGenerator random;
+    private final List<Player> players;
+    private final Queue<Player> turnQueue;
+    private final Stack<Card> tableCards;
+    private final CardSet tableCardSet; // cards on the table since the last recycle
+    private int tableSum;
+    private boolean gameOver;
+    private Card lastPlayedCard;
+
+    private final SeatRing seats;
+    private final MachineStrategy[] strategies; // per seat; null for the human
+    private final SeatView[] views;
+    private final CardCounter counter;
+
+    private final AtomicReference<GameSnapshot> snapshot = new AtomicReference<>();
+    private final GameEventBus events = new GameEventBus();
+    private final ArrayDeque<GameEvent> pendingEvents = new ArrayDeque<>(); // events of the change being applied
+    private String[] names; // shared by every snapshot
+    private long machineSeats;
+    private long version;
+    private long turnNumber;
+    private long eliminatedHash; // Zobrist keys of the eliminated seats
+    private volatile boolean snapshotsShared; // publish eagerly for readers on other threads
+    private boolean snapshotStale; // a change is not in the latest snapshot yet
+
+    public Game(int numMachines) throws EmptyDeckException {
+        this(numMachines, true);
+    }
+
+    /**
+     * Creates a game with an optional human seat.
+     * Without the human seat every player is a machine, which lets the game be
+     * played headless (see {@link GameSimulator}).
+     *
+     * @param numMachines number of CPU players
+     * @param humanSeat {@code true} to seat the human player first
+     * @throws EmptyDeckException if the deck cannot deal the initial cards
+     */
+    public Game(int numMachines, boolean humanSeat) throws EmptyDeckException {
+        this(numMachines, humanSeat, RandomSource.newGenerator());
+    }
+
+    /**
+     * Creates a game whose shuffles all come from the given generator.
+     * Two games built with generators in the same state play out identically.
+     *
+     * @param numMachines number of CPU players
+     * @param humanSeat {@code true} to seat the human player first
+     * @param random generator for the deck and for table recycling
+     * @throws EmptyDeckException if the deck cannot deal the initial cards
+     */
+    public Game(int numMachines, boolean humanSeat, RandomGenerator random) throws EmptyDeckException {
+        this.random = random;
+        this.deck = new RingDeck(random);
+        this.players = new ArrayList<>();
+        this.turnQueue = new LinkedList<>();
+        this.tableCards = new Stack<>();
+        this.tableCardSet = new CardSet();
+        this.tableSum = 0;
+        this.gameOver = false;
+
+        initializePlayers(numMachines, humanSeat);
+        this.seats = new SeatRing(players.size());
+        this.strategies = new MachineStrategy[players.size()];
+        this.views = new SeatView[players.size()];
+        this.counter = new CardCounter(deck.getCompositionBits(), players.size());
+        for (int seat = 0; seat < players.size(); seat++) {
+            if (players.get(seat).isMachine()) {
+                strategies[seat] = FirstCardStrategy.INSTANCE;
+            }
+        }
+        dealInitialCards();
+        publish();
+    }
+
+    /**
+     * Creates a game with one machine per strategy name, seated in list order
+     * after the optional human. Names are looked up in
+     * {@link StrategyRegistry#getDefault()}; each seat gets its own instance,
+     * seeded from the game's generator so seeded games stay reproducible.
+     *
+     * @param humanSeat {@code true} to seat the human player first
+     * @param machineStrategies one strategy name per CPU player, e.g. {@code ["first", "mcts"]}
+     * @param random generator for the deck, table recycling and the strategies' seeds
+     * @throws EmptyDeckException if the deck cannot deal the initial cards
+     * @throws IllegalArgumentException if a name is not registered
+     */
+    public Game(boolean humanSeat, List<String> machineStrategies, RandomGenerator random) throws EmptyDeckException {
+        this(machineStrategies.size(), humanSeat, random);
+        StrategyRegistry registry = StrategyRegistry.getDefault();
+        long strategySeed = random.nextLong();
+        int first = humanSeat ? 1 : 0;
+        for (int i = 0; i < machineStrategies.size(); i++) {
+            strategies[first + i] = registry.create(machineStrategies.get(i), strategySeed + first + i);
+        }
+    }
+
+    /**
+     * Initializes the human player and machine players.
+     */
+    private void initializePlayers(int numMachines, boolean humanSeat) {
+        if (humanSeat) {
+            Player human = new Player("You", false);
+            players.add(human);
+            turnQueue.add(human);
+        }
+
+        for (int i = 1; i <= numMachines; i++) {
+            Player machine = new Player("CPU-" + i, true);
+            players.add(machine);
+            turnQueue.add(machine);
+        }
+        for (int seat = 0; seat < players.size(); seat++) {
+            players.get(seat).setSeat(seat);
+        }
+    }
+
+    /**
+     * Deals 4 cards to each player and places one card on the table.
+     */
+    private void dealInitialCards() throws EmptyDeckException {
+        for (int seat = 0; seat < players.size(); seat++) {
+            Player p = players.get(seat);
+            p.dealInitialCards(deck);
+            for (Card card : p.getHand()) {
+                counter.drawn(seat, card);
+            }
+        }
+
+        // First card on table
+        Card firstCard = deck.drawCard();
+        counter.turnedUp(firstCard);
+        tableCards.push(firstCard);
+        tableCardSet.add(firstCard);
+        tableSum += firstCard.calculateEffect(0);
+        LOG.log(LogLevel.INFO, "Starting card: {} → Table sum: {}", firstCard, tableSum);
+    }
+
+    /**
+     * Gets the current player whose turn it is.
+     * Runs in constant time using the ring of active seats.
+     * @return current player, or null if there are no active players or the
+     *         current player was eliminated and the turn has not advanced yet
+     */
+    public Player getCurrentPlayer() {
+        int seat = seats.current();
+        if (seats.size() == 0 || !seats.isActive(seat)) {
+            return null;
+        }
+        return players.get(seat);
+    }
+
+    /**
+     * Gets all players that are not eliminated, in seat order.
+     * Builds a new list; turn logic uses the seat ring instead.
+     */
+    public List<Player> getActivePlayers() {
+        List<Player> active = new ArrayList<>(seats.size());
+        for (int seat = 0; seat < players.size(); seat++) {
+            if (seats.isActive(seat)) {
+                active.add(players.get(seat));
+            }
+        }
+        return active;
+    }
+
+    /**
+     * Returns the number of players that are not eliminated.
+     */
+    public int getActivePlayerCount() {
+        return seats.size();
+    }
+
+    /**
+     * Advances to the next active player's turn.
+     */
+    public void advanceTurn() {
+        seats.advance();
+        turnNumber++;
+        if (events.hasListeners()) {
+            pendingEvents.add(new GameEvent.TurnAdvanced(turnNumber, seats.size() > 0 ? seats.current() : -1));
+        }
+
+        // Check for winner after each turn
+        if (seats.size() == 1) {
+            endGame();
+        }
+        publish();
+    }
+
+    /**
+     * Validates if a card can be played without exceeding 50.
+     * @param card the card to validate
+     * @return true if the card is valid, false otherwise
+     */
+    public boolean isValidMove(Card card) {
+        return PlayTable.canPlay(tableSum, card);
+    }
+
+    /**
+     * Checks if a player has any valid cards to play.
+     * @param player the player to check
+     * @return true if player has at least one valid card
+     */
+    public boolean hasValidCards(Player player) {
+        if (player.isHandCanonical()) {
+            return (player.getHandBits() & PlayTable.playableCards(tableSum)) != 0;
+        }
+        List<Card> hand = player.getHand();
+        for (int i = 0; i < hand.size(); i++) {
+            if (isValidMove(hand.get(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Plays a card for a player (human or machine).
+     * Updates the table sum and removes the card from player's hand.
+     * @param player the player playing the card
+     * @param card the card to play
+     * @throws InvalidMoveException if the move is invalid
+     */
+    public void playCard(Player player, Card card) throws InvalidMoveException {
+        if (tryPlayCard(player, card) == MoveResult.INVALID_MOVE) {
+            throw new InvalidMoveException("Card would exceed 50");
+        }
+    }
+
+    /**
+     * Plays a card for a player without throwing.
+     * @param player the player playing the card
+     * @param card the card to play
+     * @return {@link MoveResult#PLAYED}, or {@link MoveResult#INVALID_MOVE} if the
+     *         card would exceed 50 (nothing changes in that case)
+     */
+    public MoveResult tryPlayCard(Player player, Card card) {
+        if (!isValidMove(card)) {
+            return MoveResult.INVALID_MOVE;
+        }
+
+        // Remove card from player's hand
+        boolean held = player.getHand().remove(card);
+
+        placeOnTable(player, card, held);
+        publish();
+        return MoveResult.PLAYED;
+    }
+
+    /**
+     * Puts a card that already left the player's hand on the table.
+     * @param held whether the card came from the hand (a card the player did not hold is only counted on the table)
+     */
+    private void placeOnTable(Player player, Card card, boolean held) {
+        int seat = seatOf(player);
+        int effect = card.isCanonical() ? PlayTable.effect(tableSum, card.getRank()) : card.calculateEffect(tableSum);
+        tableCards.push(card);
+        tableCardSet.add(card);
+        if (held) {
+            counter.played(seat, card);
+        } else {
+            counter.added(card);
+        }
+        tableSum += effect;
+
+        LOG.log(LogLevel.INFO, "{} played {} → Table sum: {}", player.getName(), card, tableSum);
+        if (events.hasListeners()) {
+            pendingEvents.add(new GameEvent.CardPlayed(seat, card, effect, tableSum));
+        }
+    }
+
+    /**
+     * Executes a machine player's turn.
+     * Tries to play a valid card, or gets eliminated.
+     * @param cpu the machine player
+     * @return the card played, or null if eliminated
+     */
+    public Card executeMachineTurn(Player cpu) {
+        return playMachineTurn(cpu) == MoveResult.PLAYED ? lastPlayedCard : null;
+    }
+
+    /**
+     * Executes a machine player's turn without throwing: plays the machine's
+     * chosen card and draws a replacement, or eliminates the machine.
+     * @param cpu the machine player
+     * @return {@link MoveResult#PLAYED} (see {@link #getLastPlayedCard()}),
+     *         {@link MoveResult#ELIMINATED} or {@link MoveResult#NOT_ACTIVE}
+     */
+    public MoveResult playMachineTurn(Player cpu) {
+        int seat = seatOf(cpu);
+        MachineStrategy strategy = seat >= 0 ? strategies[seat] : null;
+        if (strategy == null || strategy == FirstCardStrategy.INSTANCE) {
+            // Default machine strategy: play the first valid card
+            return completeMachineTurn(cpu, cpu.tryPlayCard(tableSum));
+        }
+        return playMachineTurn(cpu, strategy.chooseCard(viewOf(seat)));
+    }
+
+    /**
+     * Executes a machine player's turn with a card chosen elsewhere (for
+     * example by a {@link MachineStrategy}). If the choice is {@code null},
+     * not in the hand or not playable, the machine plays its first valid card.
+     * @param cpu the machine player
+     * @param choice the card to play
+     * @return {@link MoveResult#PLAYED}, {@link MoveResult#ELIMINATED} or {@link MoveResult#NOT_ACTIVE}
+     */
+    public MoveResult playMachineTurn(Player cpu, Card choice) {
+        if (choice == null || !isValidMove(choice) || !cpu.getHand().remove(choice)) {
+            return completeMachineTurn(cpu, cpu.tryPlayCard(tableSum));
+        }
+        return completeMachineTurn(cpu, choice);
+    }
+
+    /**
+     * Puts the card a machine took from its hand on the table and draws, or
+     * eliminates the machine if it had none.
+     */
+    private MoveResult completeMachineTurn(Player cpu, Card played) {
+        lastPlayedCard = played;
+
+        if (played == null) {
+            // Machine has no valid cards - eliminate and return its hand to the deck
+            return eliminatePlayer(cpu) ? MoveResult.ELIMINATED : MoveResult.NOT_ACTIVE;
+        }
+
+        placeOnTable(cpu, played, true);
+
+        // Draw new card
+        draw(cpu);
+        publish();
+        return MoveResult.PLAYED;
+    }
+
+    /**
+     * Attempts to play a card for the human player.
+     * @param player the human player
+     * @param card the card selected
+     * @throws InvalidMoveException if the card cannot be played
+     */
+    public void executeHumanPlay(Player player, Card card) throws InvalidMoveException {
+        switch (tryHumanPlay(player, card)) {
+            case ELIMINATED -> throw new InvalidMoveException("No valid cards to play");
+            case INVALID_MOVE -> throw new InvalidMoveException("Card would exceed 50");
+            default -> { }
+        }
+    }
+
+    /**
+     * Attempts to play a card for the human player without throwing.
+     * A player with no valid card at all is eliminated.
+     * @param player the human player
+     * @param card the card selected
+     * @return {@link MoveResult#PLAYED}, {@link MoveResult#INVALID_MOVE} or
+     *         {@link MoveResult#ELIMINATED}
+     */
+    public MoveResult tryHumanPlay(Player player, Card card) {
+        if (!hasValidCards(player)) {
+            // No valid cards - player must be eliminated
+            eliminatePlayer(player);
+            return MoveResult.ELIMINATED;
+        }
+
+        // Play the card
+        return tryPlayCard(player, card);
+    }
+
+    /**
+     * Handles drawing a card for the human player.
+     * @param player the human player
+     */
+    public void executeHumanDraw(Player player) {
+        tryDraw(player);
+    }
+
+    /**
+     * Draws a card for a player, recycling the table into the deck if it ran out.
+     * @param player the player drawing
+     * @return {@link MoveResult#DREW}, {@link MoveResult#DREW_AFTER_RECYCLE},
+     *         {@link MoveResult#HAND_FULL} or {@link MoveResult#DECK_EMPTY}
+     */
+    public MoveResult tryDraw(Player player) {
+        MoveResult result = draw(player);
+        if (result != MoveResult.HAND_FULL) {
+            publish();
+        }
+        return result;
+    }
+
+    /**
+     * Draws a card for a player without publishing a snapshot.
+     */
+    private MoveResult draw(Player player) {
+        if (player.getHand().size() >= Player.HAND_SIZE) {
+            return MoveResult.HAND_FULL;
+        }
+        if (player.tryDrawCard(deck)) {
+            announceDraw(player, false);
+            return MoveResult.DREW;
+        }
+        if (recycleDeck() && player.tryDrawCard(deck)) {
+            announceDraw(player, true);
+            return MoveResult.DREW_AFTER_RECYCLE;
+        }
+        return MoveResult.DECK_EMPTY;
+    }
+
+    private void announceDraw(Player player, boolean afterRecycle) {
+        int seat = seatOf(player);
+        List<Card> hand = player.getHand();
+        Card card = hand.get(hand.size() - 1);
+        counter.drawn(seat, card);
+        if (events.hasListeners()) {
+            pendingEvents.add(new GameEvent.CardDrawn(seat, card, afterRecycle));
+        }
+    }
+
+    /**
+     * Eliminates a player and returns their cards to the deck.
+     * The player's seat is unlinked from the ring in place; if it was the current
+     * seat, the next {@link #advanceTurn()} moves on to the following player.
+     * @param player the player to eliminate
+     * @return {@code true} if the player was eliminated; {@code false} if they
+     *         were not in this game or had already been eliminated
+     */
+    public boolean eliminatePlayer(Player player) {
+        int seat = seatOf(player);
+        if (seat < 0 || !seats.remove(seat)) {
+            return false; // not in this game, or already eliminated
+        }
+
+        List<Card> eliminatedCards = player.eliminate();
+        eliminatedHash ^= Zobrist.eliminated(seat);
+        for (Card card : eliminatedCards) {
+            counter.returned(seat, card);
+        }
+
+        // Return cards to bottom of deck
+        deck.copyCardsToBottom(eliminatedCards);
+
+        LOG.log(LogLevel.INFO, "{} has been eliminated!", player.getName());
+        if (events.hasListeners()) {
+            pendingEvents.add(new GameEvent.PlayerEliminated(seat, eliminatedCards.size()));
+        }
+
+        // Check if game is over
+        if (seats.size() == 1) {
+            endGame();
+        }
+        publish();
+        return true;
+    }
+
+    /**
+     * Recycles the table cards back into the deck when it's empty.
+     * @return {@code true} if any card went back into the deck
+     */
+    private boolean recycleDeck() {
+        if (tableCards.size() > 1) {
+            Card topCard = tableCards.pop(); // Keep top card
+
+            // Shuffle remaining cards back into deck and empty the table
+            int returned = tableCards.size();
+            RandomSource.shuffle(tableCards, random);
+            deck.copyCardsToBottom(tableCards);
+            tableCards.clear();
+
+            tableCards.push(topCard);
+            tableCardSet.clear();
+            tableCardSet.add(topCard);
+            counter.recycled(topCard);
+
+            LOG.log(LogLevel.INFO, "Deck recycled! Cards returned from table.");
+            if (events.hasListeners()) {
+                pendingEvents.add(new GameEvent.DeckRecycled(returned, deck.remainingCards()));
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Gets the winner of the game (if any).
+     * @return the winning player, or null if no winner yet
+     */
+    public Player getWinner() {
+        int seat = seats.survivor();
+        return seat >= 0 ? players.get(seat) : null;
+    }
+
+    /**
+     * Finds the seat index of a player (a scan over at most 13 seats).
+     * @return the seat, or -1 if the player is not in this game
+     */
+    private int seatOf(Player player) {
+        for (int seat = 0; seat < players.size(); seat++) {
+            if (players.get(seat) == player) {
+                return seat;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the {@link Zobrist} hash of the position: every hand, the deck
+     * composition, the table sum, the seat to move and the eliminated seats.
+     * Hands and deck update their part in O(1) per card moved (in
+     * {@link #playCard}, {@link Player#drawCard} and {@link #eliminatePlayer});
+     * this only XORs the parts together, one per seat.
+     *
+     * @return the hash; equal positions have equal hashes
+     */
+    public long getZobristHash() {
+        long hash = eliminatedHash ^ deck.getZobristHash() ^ Zobrist.sum(tableSum);
+        if (seats.size() > 0) {
+            hash ^= Zobrist.turn(seats.current());
+        }
+        for (int seat = 0; seat < players.size(); seat++) {
+            hash ^= players.get(seat).getZobristHash();
+        }
+        return hash;
+    }
+
+    /**
+     * Returns the strategy a machine seat plays with.
+     *
+     * @param seat the seat
+     * @return the strategy, or {@code null} for the human seat
+     */
+    public MachineStrategy getStrategy(int seat) {
+        return strategies[seat];
+    }
+
+    /**
+     * Replaces the strategy of a machine seat.
+     *
+     * @param seat the seat
+     * @param strategy the new strategy
+     * @throws IllegalArgumentException if the seat is the human's
+     */
+    public void setStrategy(int seat, MachineStrategy strategy) {
+        if (!players.get(seat).isMachine()) {
+            throw new IllegalArgumentException("Seat " + seat + " is not a machine");
+        }
+        strategies[seat] = Objects.requireNonNull(strategy);
+    }
+
+    /**
+     * Returns what a player can see of the game, as passed to a {@link MachineStrategy}.
+     * The view reads the live game, so it must be used on the thread applying the moves.
+     *
+     * @param player a player of this game
+     * @return the player's view
+     * @throws IllegalArgumentException if the player is not in this game
+     */
+    public TurnView getTurnView(Player player) {
+        int seat = seatOf(player);
+        if (seat < 0) {
+            throw new IllegalArgumentException(player.getName() + " is not in this game");
+        }
+        return viewOf(seat);
+    }
+
+    private SeatView viewOf(int seat) {
+        SeatView view = views[seat];
+        if (view == null) {
+            view = new SeatView(seat);
+            views[seat] = view;
+        }
+        return view;
+    }
+
+    /**
+     * Live, read-only view of the game from one seat. Only public information
+     * and the seat's own hand are exposed.
+     */
+    private final class SeatView implements TurnView {
+        private final int seat;
+        private final List<Card> hand;
+
+        SeatView(int seat) {
+            this.seat = seat;
+            this.hand = Collections.unmodifiableList(players.get(seat).getHand());
+        }
+
+        @Override
+        public int getSeat() {
+            return seat;
+        }
+
+        @Override
+        public int getSeatCount() {
+            return players.size();
+        }
+
+        @Override
+        public List<Card> getHand() {
+            return hand;
+        }
+
+        @Override
+        public long getHandBits() {
+            return players.get(seat).getHandBits();
+        }
+
+        @Override
+        public boolean isHandCanonical() {
+            return players.get(seat).isHandCanonical();
+        }
+
+        @Override
+        public int getTableSum() {
+            return tableSum;
+        }
+
+        @Override
+        public Card getTopCard() {
+            return Game.this.getTopCard();
+        }
+
+        @Override
+        public long getTableBits() {
+            return tableCardSet.bits();
+        }
+
+        @Override
+        public int getHandSize(int other) {
+            return players.get(other).getHand().size();
+        }
+
+        @Override
+        public long getActiveSeats() {
+            long active = 0;
+            for (int other = 0; other < players.size(); other++) {
+                if (seats.isActive(other)) {
+                    active |= 1L << other;
+                }
+            }
+            return active;
+        }
+
+        @Override
+        public int getDeckSize() {
+            return deck.remainingCards();
+        }
+
+        @Override
+        public long getTurn() {
+            return turnNumber;
+        }
+
+        @Override
+        public int getUnseenCount(int rank) {
+            return counter.getUnseenCount(seat, rank);
+        }
+
+        @Override
+        public int getUnseenTotal() {
+            return counter.getUnseenTotal(seat);
+        }
+
+        @Override
+        public double getDrawPlayableChance(int sum) {
+            return counter.getDrawPlayableChance(seat, sum);
+        }
+    }
+
+    /**
+     * Returns the live card counts of this game: cards per rank in the deck, on
+     * the table and in each hand, kept up to date as cards move.
+     */
+    public CardCounter getCardCounter() {
+        return counter;
+    }
+
+    public IDeck getDeck() {
+        return deck;
+    }
+
+    public void stop(){
+        endGame();
+        publish();
+    }
+
+    /**
+     * Marks the game as over and announces it, once.
+     */
+    private void endGame() {
+        if (gameOver) {
+            return;
+        }
+        gameOver = true;
+        if (events.hasListeners()) {
+            pendingEvents.add(new GameEvent.GameOver(seats.survivor()));
+        }
+    }
+
+    /**
+     * Returns the bus that delivers this game's events.
+     */
+    public GameEventBus getEvents() {
+        return events;
+    }
+
+    /**
+     * Subscribes a listener that is called synchronously, on the thread applying each move,
+     * once the move is complete and its snapshot published.
+     *
+     * @param listener the listener
+     * @return the subscription; close it to unsubscribe
+     */
+    public GameEventBus.Subscription addListener(GameListener listener) {
+        return events.subscribe(listener);
+    }
+
+    public void addTableSum(int value) {
+        tableSum += value;
+        publish();
+    }
+
+    public int getTableSum() {
+        return tableSum;
+    }
+
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    public List<Player> getPlayers() {
+        return players;
+    }
+
+    public void setTopCard(Card card) {
+        tableCards.push(card);
+        if (card.getOrdinal() >= 0) {
+            tableCardSet.add(card);
+        }
+        counter.added(card);
+        publish();
+    }
+
+    /**
+     * Returns the card played by the last machine turn, or null if that machine was eliminated.
+     */
+    public Card getLastPlayedCard() {
+        return lastPlayedCard;
+    }
+
+    /**
+     * Returns the cards played to the table since the last recycle, top card included.
+     */
+    public CardSet getTableCardSet() {
+        return new CardSet(tableCardSet.bits());
+    }
+
+    /**
+     * Returns the cards still in the deck, tracked incrementally by the deck.
+     */
+    public CardSet getDeckComposition() {
+        return deck.getComposition();
+    }
+
+    public Card getTopCard() {
+        return tableCards.isEmpty() ? null : tableCards.peek();
+    }
+
+    /**
+     * Returns a snapshot of the current state.
+     * After {@link #shareSnapshots()} this is the latest published snapshot,
+     * wait-free and safe from any thread. Before that, the snapshot is built
+     * here when the state has changed, so it must be called on the thread
+     * applying the moves.
+     */
+    public GameSnapshot getSnapshot() {
+        if (!snapshotsShared && snapshotStale) {
+            buildSnapshot();
+        }
+        return snapshot.get();
+    }
+
+    /**
+     * Publishes a snapshot now and after every later change, so threads other
+     * than the one applying moves can call {@link #getSnapshot()}.
+     * Call it on the thread applying the moves before sharing the game with
+     * those readers. Games nobody reads from another thread, such as headless
+     * simulations, skip it and allocate no snapshots while they play.
+     */
+    public void shareSnapshots() {
+        if (!snapshotsShared) {
+            buildSnapshot();
+            snapshotsShared = true;
+        }
+    }
+
+    /**
+     * Marks the state changed, publishing a snapshot right away if snapshots are
+     * shared, and then delivers the events of the change. Listeners therefore
+     * always find the state the event describes in {@link #getSnapshot()}.
+     * Only the thread applying moves calls this, at the end of each change.
+     */
+    private void publish() {
+        if (snapshotsShared) {
+            buildSnapshot();
+        } else {
+            snapshotStale = true;
+        }
+        GameEvent event;
+        while ((event = pendingEvents.poll()) != null) { // a listener may apply a further change meanwhile
+            events.publish(event);
+        }
+    }
+
+    /**
+     * Builds and installs a snapshot of the current state.
+     */
+    private void buildSnapshot() {
+        snapshotStale = false;
+        int count = players.size();
+        if (names == null) {
+            names = new String[count];
+            for (int seat = 0; seat < count; seat++) {
+                names[seat] = players.get(seat).getName();
+                if (players.get(seat).isMachine()) {
+                    machineSeats |= 1L << seat;
+                }
+            }
+        }
+        Card[][] hands = new Card[count][];
+        long[] handBits = new long[count];
+        long active = 0;
+        for (int seat = 0; seat < count; seat++) {
+            Player player = players.get(seat);
+            hands[seat] = player.getHand().toArray(new Card[0]);
+            handBits[seat] = player.getHandBits();
+            if (seats.isActive(seat)) {
+                active |= 1L << seat;
+            }
+        }
+        int current = seats.size() > 0 && seats.isActive(seats.current()) ? seats.current() : -1;
+        snapshot.set(new GameSnapshot(version++, turnNumber, tableSum, getTopCard(), current,
+                active, machineSeats, gameOver, deck.remainingCards(), names, hands, handBits));
+    }
+}
+
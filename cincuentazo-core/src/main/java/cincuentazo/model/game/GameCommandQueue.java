@@ -0,0 +1,225 @@
+package cincuentazo.model.game;
+
+import cincuentazo.model.card.Card;
+import cincuentazo.model.player.Player;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Single-writer front of a {@link Game}.
+ * Every mutation (and every read that must be consistent) is submitted as a
+ * command; commands are applied one at a time, in submission order, by a single
+ * owner: the thread currently draining the queue. Threads never lock the game,
+ * they only enqueue, so the game thread, the JavaFX thread or a network client
+ * can all drive the same engine without races.
+ * <p>
+ * The queue drains on the given executor; with the default one it has its own
+ * daemon thread. A command may submit further commands; they run after it.
+ * Commands submitted after {@link #close()}, or that the executor refuses to
+ * run, complete exceptionally instead of waiting forever.
+ */
+public class GameCommandQueue implements AutoCloseable {
+
+    private final Game game;
+    private final Executor executor;
+    private final ExecutorService ownedExecutor;
+    private final Queue<Command<?>> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private volatile Thread owner;
+    private volatile boolean closed;
+
+    /**
+     * A submitted command and the future it completes.
+     */
+    private final class Command<T> {
+        private final Function<? super Game, ? extends T> action;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+
+        Command(Function<? super Game, ? extends T> action) {
+            this.action = action;
+        }
+
+        void run() {
+            try {
+                result.complete(action.apply(game));
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            }
+        }
+    }
+
+    /**
+     * Creates a queue with its own owner thread.
+     *
+     * @param game the game the commands apply to
+     */
+    public GameCommandQueue(Game game) {
+        this(game, Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "game-commands");
+            thread.setDaemon(true);
+            return thread;
+        }), true);
+    }
+
+    /**
+     * Creates a queue that drains on the given executor.
+     * The executor may run other work and have many threads; the queue still
+     * applies one command at a time.
+     *
+     * @param game     the game the commands apply to
+     * @param executor runs the draining task
+     */
+    public GameCommandQueue(Game game, Executor executor) {
+        this(game, executor, false);
+    }
+
+    private GameCommandQueue(Game game, Executor executor, boolean owned) {
+        this.game = game;
+        this.executor = executor;
+        this.ownedExecutor = owned ? (ExecutorService) executor : null;
+    }
+
+    /**
+     * Submits a command.
+     *
+     * @param command applied to the game by the owner
+     * @param <T>     the command's result type
+     * @return completes with the command's result, or exceptionally if it threw,
+     *         the queue is closed or the executor rejected the drain
+     */
+    public <T> CompletableFuture<T> submit(Function<? super Game, ? extends T> command) {
+        if (closed || executor instanceof ExecutorService service && service.isShutdown()) {
+            // A shut-down executor may have dropped a drain already scheduled, so do not wait for it
+            return CompletableFuture.failedFuture(new IllegalStateException("Command queue is closed"));
+        }
+        Command<T> queued = new Command<>(command);
+        pending.add(queued);
+        scheduleDrain();
+        return queued.result;
+    }
+
+    /**
+     * Submits a command without a result.
+     *
+     * @param command applied to the game by the owner
+     * @return completes once the command has been applied
+     */
+    public CompletableFuture<Void> execute(Consumer<? super Game> command) {
+        return submit(g -> {
+            command.accept(g);
+            return null;
+        });
+    }
+
+    /**
+     * Applies a command and waits for its result.
+     * Called by the owner itself (from inside another command), it runs at once.
+     *
+     * @param command applied to the game by the owner
+     * @param <T>     the command's result type
+     * @return the command's result
+     * @throws CompletionException if the command threw
+     */
+    public <T> T call(Function<? super Game, ? extends T> command) {
+        if (isOwnerThread()) {
+            return command.apply(game);
+        }
+        return this.<T>submit(command).join();
+    }
+
+    /**
+     * Plays a card for the human player (see {@link Game#tryHumanPlay(Player, Card)}).
+     */
+    public CompletableFuture<MoveResult> playHumanCard(Player player, Card card) {
+        return submit(g -> g.tryHumanPlay(player, card));
+    }
+
+    /**
+     * Draws a card for a player (see {@link Game#tryDraw(Player)}).
+     */
+    public CompletableFuture<MoveResult> draw(Player player) {
+        return submit(g -> g.tryDraw(player));
+    }
+
+    /**
+     * Eliminates a player (see {@link Game#eliminatePlayer(Player)}).
+     */
+    public CompletableFuture<Boolean> eliminate(Player player) {
+        return submit(g -> g.eliminatePlayer(player));
+    }
+
+    /**
+     * Passes the turn to the next active player.
+     */
+    public CompletableFuture<Void> advanceTurn() {
+        return execute(Game::advanceTurn);
+    }
+
+    /**
+     * Returns whether the calling thread is the one applying commands right now.
+     */
+    public boolean isOwnerThread() {
+        return owner == Thread.currentThread();
+    }
+
+    /**
+     * Returns the game; outside a command it must only be read through {@link #call(Function)}
+     * or {@link #submit(Function)}.
+     */
+    public Game getGame() {
+        return game;
+    }
+
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                // Nobody will drain: fail what is waiting so no caller blocks forever
+                draining.set(false);
+                Command<?> command;
+                while ((command = pending.poll()) != null) {
+                    command.result.completeExceptionally(e);
+                }
+            }
+        }
+    }
+
+    private void drain() {
+        owner = Thread.currentThread();
+        try {
+            Command<?> command;
+            while ((command = pending.poll()) != null) {
+                command.run();
+            }
+        } finally {
+            owner = null;
+            draining.set(false);
+            if (!pending.isEmpty()) {
+                scheduleDrain(); // a command arrived after the last poll
+            }
+        }
+    }
+
+    /**
+     * Refuses further commands and shuts the owner thread down if this queue
+     * created it. Commands already submitted are still applied.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdown();
+        }
+    }
+}
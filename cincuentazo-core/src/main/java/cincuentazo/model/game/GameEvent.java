@@ -0,0 +1,67 @@
+package cincuentazo.model.game;
+
+import cincuentazo.model.card.Card;
+
+/**
+ * Something that happened in a {@link Game}, delivered to {@link GameListener}s.
+ * Events are small immutable records, only created when someone is listening.
+ * Players are identified by their seat, the index in {@link Game#getPlayers()}.
+ */
+public sealed interface GameEvent {
+
+    /**
+     * A card was played to the table.
+     *
+     * @param seat     the player's seat
+     * @param card     the card played
+     * @param effect   how much the card changed the sum
+     * @param tableSum the sum after the card
+     */
+    record CardPlayed(int seat, Card card, int effect, int tableSum) implements GameEvent {
+    }
+
+    /**
+     * A player drew a card.
+     *
+     * @param seat         the player's seat
+     * @param card         the card drawn
+     * @param afterRecycle {@code true} if the table had to be recycled first
+     */
+    record CardDrawn(int seat, Card card, boolean afterRecycle) implements GameEvent {
+    }
+
+    /**
+     * The table (except its top card) was shuffled back into the deck.
+     *
+     * @param cardsReturned number of cards moved to the deck
+     * @param deckSize      cards in the deck afterwards
+     */
+    record DeckRecycled(int cardsReturned, int deckSize) implements GameEvent {
+    }
+
+    /**
+     * A player was eliminated and their hand returned to the deck.
+     *
+     * @param seat          the player's seat
+     * @param cardsReturned number of cards returned to the deck
+     */
+    record PlayerEliminated(int seat, int cardsReturned) implements GameEvent {
+    }
+
+    /**
+     * The turn passed on.
+     *
+     * @param turn the number of times the turn has passed
+     * @param seat the seat whose turn it is now, or -1 if no seat is active
+     */
+    record TurnAdvanced(long turn, int seat) implements GameEvent {
+    }
+
+    /**
+     * The game is over; sent once.
+     *
+     * @param winnerSeat the winner's seat, or -1 if the game was stopped without a winner
+     */
+    record GameOver(int winnerSeat) implements GameEvent {
+    }
+}
@@ -0,0 +1,114 @@
+package cincuentazo.model.game;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Delivers the events of a {@link Game} to its listeners.
+ * A listener is either called synchronously, on the thread applying the move,
+ * or on an executor of its choice; in both cases it sees the events one at a
+ * time and in order. The game checks {@link #hasListeners()} before creating an
+ * event, so a game nobody listens to allocates nothing.
+ */
+public class GameEventBus {
+
+    private final CopyOnWriteArrayList<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+
+    /**
+     * Subscribes a listener that is called synchronously.
+     *
+     * @param listener the listener
+     * @return the subscription; close it to unsubscribe
+     */
+    public Subscription subscribe(GameListener listener) {
+        return subscribe(listener, null);
+    }
+
+    /**
+     * Subscribes a listener that is called on the given executor.
+     * Events still reach the listener one at a time and in order, even on a
+     * multi-threaded executor.
+     *
+     * @param listener the listener
+     * @param executor runs the deliveries, or null to deliver synchronously
+     * @return the subscription; close it to unsubscribe
+     */
+    public Subscription subscribe(GameListener listener, Executor executor) {
+        Subscription subscription = new Subscription(listener, executor);
+        subscriptions.add(subscription);
+        return subscription;
+    }
+
+    /**
+     * Returns whether anyone is subscribed.
+     */
+    public boolean hasListeners() {
+        return !subscriptions.isEmpty();
+    }
+
+    /**
+     * Delivers an event to every subscriber.
+     *
+     * @param event the event
+     */
+    void publish(GameEvent event) {
+        for (Subscription subscription : subscriptions) {
+            subscription.deliver(event);
+        }
+    }
+
+    /**
+     * A listener's registration on the bus.
+     */
+    public final class Subscription implements AutoCloseable {
+
+        private final GameListener listener;
+        private final Executor executor;
+        private final Queue<GameEvent> pending; // only for executor delivery
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+
+        private Subscription(GameListener listener, Executor executor) {
+            this.listener = listener;
+            this.executor = executor;
+            this.pending = executor == null ? null : new ConcurrentLinkedQueue<>();
+        }
+
+        private void deliver(GameEvent event) {
+            if (executor == null) {
+                listener.onEvent(event);
+                return;
+            }
+            pending.add(event);
+            if (draining.compareAndSet(false, true)) {
+                executor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                GameEvent event;
+                while (!closed && (event = pending.poll()) != null) {
+                    listener.onEvent(event);
+                }
+            } finally {
+                draining.set(false);
+                if (!closed && !pending.isEmpty() && draining.compareAndSet(false, true)) {
+                    executor.execute(this::drain);
+                }
+            }
+        }
+
+        /**
+         * Unsubscribes; events not yet delivered on the executor are dropped.
+         */
+        @Override
+        public void close() {
+            closed = true;
+            subscriptions.remove(this);
+        }
+    }
+}
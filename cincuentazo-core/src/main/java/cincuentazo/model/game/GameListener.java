@@ -0,0 +1,80 @@
+package cincuentazo.model.game;
+
+import java.util.function.Consumer;
+
+/**
+ * Receives the events of a {@link Game} (see {@link GameEventBus}).
+ * Implement {@link #onEvent(GameEvent)} to see every event, or override only
+ * the typed methods of interest; each does nothing by default.
+ * A listener delivered synchronously runs while the game applies the move and
+ * must not change the game itself.
+ */
+public interface GameListener {
+
+    /**
+     * Wraps a function that receives every event.
+     *
+     * @param action called with each event
+     * @return the listener
+     */
+    static GameListener of(Consumer<? super GameEvent> action) {
+        return new GameListener() {
+            @Override
+            public void onEvent(GameEvent event) {
+                action.accept(event);
+            }
+        };
+    }
+
+    /**
+     * Receives an event and dispatches it to the typed method.
+     *
+     * @param event the event
+     */
+    default void onEvent(GameEvent event) {
+        switch (event) {
+            case GameEvent.CardPlayed e -> onCardPlayed(e);
+            case GameEvent.CardDrawn e -> onCardDrawn(e);
+            case GameEvent.DeckRecycled e -> onDeckRecycled(e);
+            case GameEvent.PlayerEliminated e -> onPlayerEliminated(e);
+            case GameEvent.TurnAdvanced e -> onTurnAdvanced(e);
+            case GameEvent.GameOver e -> onGameOver(e);
+        }
+    }
+
+    /**
+     * A card was played to the table.
+     */
+    default void onCardPlayed(GameEvent.CardPlayed event) {
+    }
+
+    /**
+     * A player drew a card.
+     */
+    default void onCardDrawn(GameEvent.CardDrawn event) {
+    }
+
+    /**
+     * The table was recycled into the deck.
+     */
+    default void onDeckRecycled(GameEvent.DeckRecycled event) {
+    }
+
+    /**
+     * A player was eliminated.
+     */
+    default void onPlayerEliminated(GameEvent.PlayerEliminated event) {
+    }
+
+    /**
+     * The turn passed on.
+     */
+    default void onTurnAdvanced(GameEvent.TurnAdvanced event) {
+    }
+
+    /**
+     * The game is over.
+     */
+    default void onGameOver(GameEvent.GameOver event) {
+    }
+}
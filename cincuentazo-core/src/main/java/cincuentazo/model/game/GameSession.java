@@ -0,0 +1,206 @@
+package cincuentazo.model.game;
+
+import cincuentazo.model.player.Player;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.random.RandomGenerator;
+
+/**
+ * A game hosted by a {@link SessionHost}, played by a plain blocking turn loop
+ * on its own virtual thread. Machine thinking and pauses are {@code Thread.sleep}
+ * calls and a human turn blocks until {@link #endHumanTurn()}; on a virtual
+ * thread none of these hold a platform thread.
+ * The loop changes the game only through the session's {@link GameCommandQueue},
+ * and so must the human (see {@link #getCommands()}).
+ */
+public class GameSession {
+
+    private final long id;
+    private final Game game;
+    private final TablePacing pacing;
+    private final TableListener listener;
+    private final RandomGenerator random;
+    private final LatencyHistogram turnLatency;
+    private final GameCommandQueue commands;
+    private final Semaphore humanTurnEnded = new Semaphore(0);
+    private final AtomicBoolean waitingHuman = new AtomicBoolean();
+    private volatile boolean closed;
+    private volatile boolean finished;
+    private volatile int turns;
+    private final Thread thread; // created unstarted, so it is set before the session is shared
+
+    /**
+     * Creates the session and its turn-loop thread, not yet started.
+     *
+     * @param threads creates the turn-loop thread
+     * @param onExit  runs on the turn-loop thread once the loop has exited
+     */
+    GameSession(long id, Game game, TablePacing pacing, TableListener listener,
+                RandomGenerator random, LatencyHistogram turnLatency, ThreadFactory threads, Runnable onExit) {
+        this.id = id;
+        this.game = game;
+        this.pacing = pacing;
+        this.listener = listener;
+        this.random = random;
+        this.turnLatency = turnLatency;
+        this.commands = new GameCommandQueue(game, Runnable::run); // drained by whichever thread submits
+        this.thread = threads.newThread(() -> {
+            try {
+                play();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                finished = true;
+                onExit.run();
+            }
+        });
+    }
+
+    /**
+     * Starts the turn loop.
+     */
+    void start() {
+        thread.start();
+    }
+
+    /**
+     * The turn loop: the same shape as the desktop game loop, one turn after the other.
+     * Turn latency is measured from the moment a machine's move is due (its thinking
+     * time is over) until the move has been applied.
+     */
+    private void play() throws InterruptedException {
+        while (!closed) {
+            Player current = commands.call(this::nextPlayer);
+            if (current == null) {
+                break;
+            }
+
+            turns++;
+            listener.onTurnStarted(current);
+            if (current.isMachine()) {
+                long think = thinkNanos();
+                long due = System.nanoTime() + think;
+                sleepNanos(think);
+                MoveResult result = commands.call(g -> {
+                    MoveResult move = g.playMachineTurn(current);
+                    g.advanceTurn();
+                    return move;
+                });
+                turnLatency.record(System.nanoTime() - due);
+                listener.onMachineMove(current, result);
+                sleepNanos(pacing.getPauseNanos());
+            } else {
+                waitingHuman.set(true);
+                listener.onHumanTurn(current);
+                humanTurnEnded.acquire();
+                if (closed) {
+                    break;
+                }
+                commands.call(g -> {
+                    g.advanceTurn();
+                    return null;
+                });
+            }
+        }
+        if (!closed) {
+            listener.onGameOver(commands.call(Game::getWinner));
+        }
+    }
+
+    /**
+     * Returns the player whose turn it is, skipping eliminated seats, or null once the game is over.
+     */
+    private Player nextPlayer(Game g) {
+        while (!g.isGameOver() && g.getActivePlayerCount() > 1 && turns < GameSimulator.DEFAULT_MAX_TURNS) {
+            Player current = g.getCurrentPlayer();
+            if (current != null) {
+                return current;
+            }
+            g.advanceTurn();
+        }
+        return null;
+    }
+
+    private long thinkNanos() {
+        long min = pacing.getMinThinkNanos();
+        long max = pacing.getMaxThinkNanos();
+        return max > min ? random.nextLong(min, max) : min;
+    }
+
+    private static void sleepNanos(long nanos) throws InterruptedException {
+        if (nanos > 0) {
+            Thread.sleep(Duration.ofNanos(nanos));
+        }
+    }
+
+    /**
+     * Ends the human's turn and wakes the turn loop.
+     * Does nothing if the session is not waiting for the human.
+     */
+    public void endHumanTurn() {
+        if (waitingHuman.compareAndSet(true, false)) {
+            humanTurnEnded.release();
+        }
+    }
+
+    /**
+     * Stops the session; the turn loop exits without reporting a game over.
+     */
+    public void close() {
+        closed = true;
+        commands.execute(Game::stop);
+        humanTurnEnded.release(); // wakes a loop waiting for the human even if the interrupt is missed
+        thread.interrupt();
+    }
+
+    /**
+     * Waits for the turn loop to exit.
+     *
+     * @param timeout the longest time to wait
+     * @return {@code true} if the loop has exited
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean await(Duration timeout) throws InterruptedException {
+        return thread.join(timeout);
+    }
+
+    /**
+     * Returns the session id, unique within its host.
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Returns the hosted game. Outside the session's callbacks it should only be
+     * mutated or read through {@link #getCommands()}.
+     */
+    public Game getGame() {
+        return game;
+    }
+
+    /**
+     * Returns the queue that serializes every change to the game.
+     */
+    public GameCommandQueue getCommands() {
+        return commands;
+    }
+
+    /**
+     * Returns the number of turns played so far.
+     */
+    public int getTurns() {
+        return turns;
+    }
+
+    /**
+     * Returns whether the turn loop has exited.
+     */
+    public boolean isFinished() {
+        return finished;
+    }
+}
@@ -0,0 +1,174 @@
+package cincuentazo.model.game;
+
+import cincuentazo.model.exceptions.EmptyDeckException;
+import cincuentazo.model.player.Player;
+import cincuentazo.model.random.RandomSource;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Headless simulator for "Cincuentazo".
+ * Plays complete games made only of machine players, without any JavaFX
+ * thread or artificial delay, and spreads them across all cores using a
+ * fork-join pool. The results are merged into a {@link SimulationReport}.
+ * Game {@code i} of a run always shuffles with the same generator, derived from
+ * the run seed, so a run replays exactly whatever the number of threads.
+ */
+public class GameSimulator {
+
+    /**
+     * Maximum number of turns a single game may last before it is counted as unfinished.
+     */
+    public static final int DEFAULT_MAX_TURNS = 10_000;
+
+    /**
+     * Number of games a single fork-join task plays before it stops splitting.
+     */
+    private static final long BATCH_SIZE = 256;
+
+    private final int numMachines;
+    private final int maxTurns;
+    private final ForkJoinPool pool;
+    private final long seed;
+
+    /**
+     * Creates a simulator with a random seed that uses the common fork-join pool.
+     *
+     * @param numMachines number of machine players in each game
+     */
+    public GameSimulator(int numMachines) {
+        this(numMachines, DEFAULT_MAX_TURNS, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a simulator with a random seed.
+     *
+     * @param numMachines number of machine players in each game (2 to 12)
+     * @param maxTurns    turn limit after which a game is counted as unfinished
+     * @param pool        the pool the games are played on
+     */
+    public GameSimulator(int numMachines, int maxTurns, ForkJoinPool pool) {
+        this(numMachines, maxTurns, pool, RandomSource.randomSeed());
+    }
+
+    /**
+     * Creates a simulator.
+     *
+     * @param numMachines number of machine players in each game (2 to 12)
+     * @param maxTurns    turn limit after which a game is counted as unfinished
+     * @param pool        the pool the games are played on
+     * @param seed        seed the games' generators are derived from
+     */
+    public GameSimulator(int numMachines, int maxTurns, ForkJoinPool pool, long seed) {
+        if (numMachines < 2 || numMachines > 12) {
+            throw new IllegalArgumentException("A simulated game needs between 2 and 12 machines: " + numMachines);
+        }
+        if (maxTurns <= 0) {
+            throw new IllegalArgumentException("maxTurns must be positive: " + maxTurns);
+        }
+        this.numMachines = numMachines;
+        this.maxTurns = maxTurns;
+        this.pool = pool;
+        this.seed = seed;
+    }
+
+    /**
+     * Plays the given number of games in parallel and reports the results.
+     *
+     * @param games number of games to play
+     * @return the merged report
+     */
+    public SimulationReport run(long games) {
+        if (games < 0) {
+            throw new IllegalArgumentException("games must not be negative: " + games);
+        }
+        long start = System.nanoTime();
+        SimulationTally tally = pool.invoke(new SimulationTask(0, games));
+        long elapsed = System.nanoTime() - start;
+        return new SimulationReport(numMachines, seed, tally, elapsed);
+    }
+
+    /**
+     * Plays a single game until it is over or the turn limit is reached.
+     *
+     * @param game     the game to play; every player must be a machine
+     * @param maxTurns the turn limit
+     * @return the number of turns played
+     */
+    public static int playOut(Game game, int maxTurns) {
+        int turns = 0;
+        while (!game.isGameOver() && game.getActivePlayerCount() > 0 && turns < maxTurns) {
+            Player current = game.getCurrentPlayer();
+            if (current != null) {
+                game.executeMachineTurn(current);
+                turns++;
+            }
+            game.advanceTurn();
+        }
+        return turns;
+    }
+
+    /**
+     * Plays game number {@code index} of the run and records it in the tally.
+     */
+    private void playOne(SimulationTally tally, long index) {
+        try {
+            Game game = new Game(numMachines, false, RandomSource.forIndex(seed, index));
+            int turns = playOut(game, maxTurns);
+            Player winner = game.getWinner();
+            tally.record(turns, winner == null ? -1 : game.getPlayers().indexOf(winner));
+        } catch (EmptyDeckException e) {
+            tally.record(0, -1);
+        }
+    }
+
+    /**
+     * Fork-join task that plays the games in the range [from, to).
+     */
+    private class SimulationTask extends RecursiveTask<SimulationTally> {
+        private final long from;
+        private final long to;
+
+        SimulationTask(long from, long to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected SimulationTally compute() {
+            if (to - from <= BATCH_SIZE) {
+                SimulationTally tally = new SimulationTally(numMachines);
+                for (long i = from; i < to; i++) {
+                    playOne(tally, i);
+                }
+                return tally;
+            }
+
+            long mid = (from + to) >>> 1;
+            SimulationTask left = new SimulationTask(from, mid);
+            SimulationTask right = new SimulationTask(mid, to);
+            left.fork();
+            SimulationTally result = right.compute();
+            result.merge(left.join());
+            return result;
+        }
+    }
+
+    /**
+     * Runs a simulation from the command line.
+     * Usage: {@code GameSimulator [games] [machines] [seed]}
+     *
+     * @param args optional number of games, machines per game and seed
+     */
+    public static void main(String[] args) {
+        long games = args.length > 0 ? Long.parseLong(args[0]) : 100_000;
+        int machines = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : RandomSource.randomSeed();
+
+        SimulationReport report = new GameSimulator(machines, DEFAULT_MAX_TURNS, ForkJoinPool.commonPool(), seed)
+                .run(games);
+        System.out.println(report);
+    }
+}
@@ -0,0 +1,185 @@
+package cincuentazo.model.game;
+
+import cincuentazo.model.card.Card;
+
+import java.util.List;
+
+/**
+ * Immutable picture of a {@link Game} after an applied move.
+ * Once {@link Game#shareSnapshots()} has been called, the game publishes a new
+ * snapshot through an atomic reference every time its state changes, so any
+ * number of renderers, spectators or AIs can read a consistent state without
+ * locks and without touching the mutable game.
+ * Hands are kept as compact card arrays plus their {@link cincuentazo.model.card.CardSet}
+ * bits, and the active seats as a bit mask.
+ */
+public final class GameSnapshot {
+
+    private final long version;
+    private final long turn;
+    private final int tableSum;
+    private final Card topCard;
+    private final int currentSeat;
+    private final long activeSeats;
+    private final long machineSeats;
+    private final boolean gameOver;
+    private final int deckSize;
+    private final String[] names; // shared by every snapshot of a game, never modified
+    private final Card[][] hands;
+    private final long[] handBits;
+
+    GameSnapshot(long version, long turn, int tableSum, Card topCard, int currentSeat,
+                 long activeSeats, long machineSeats, boolean gameOver, int deckSize,
+                 String[] names, Card[][] hands, long[] handBits) {
+        this.version = version;
+        this.turn = turn;
+        this.tableSum = tableSum;
+        this.topCard = topCard;
+        this.currentSeat = currentSeat;
+        this.activeSeats = activeSeats;
+        this.machineSeats = machineSeats;
+        this.gameOver = gameOver;
+        this.deckSize = deckSize;
+        this.names = names;
+        this.hands = hands;
+        this.handBits = handBits;
+    }
+
+    /**
+     * Returns the number of snapshots the game published before this one;
+     * a higher version is always a later state.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the number of times the turn has passed.
+     */
+    public long getTurn() {
+        return turn;
+    }
+
+    /**
+     * Returns the table sum.
+     */
+    public int getTableSum() {
+        return tableSum;
+    }
+
+    /**
+     * Returns the card on top of the table, or null.
+     */
+    public Card getTopCard() {
+        return topCard;
+    }
+
+    /**
+     * Returns the seat whose turn it is, or -1 if that seat was just eliminated.
+     */
+    public int getCurrentSeat() {
+        return currentSeat;
+    }
+
+    /**
+     * Returns the number of seats, eliminated ones included.
+     */
+    public int getSeatCount() {
+        return names.length;
+    }
+
+    /**
+     * Returns the active seats, one bit per seat.
+     */
+    public long getActiveSeats() {
+        return activeSeats;
+    }
+
+    /**
+     * Returns whether the seat's player is still in the game.
+     */
+    public boolean isActive(int seat) {
+        return (activeSeats & (1L << seat)) != 0;
+    }
+
+    /**
+     * Returns the number of players still in the game.
+     */
+    public int getActiveCount() {
+        return Long.bitCount(activeSeats);
+    }
+
+    /**
+     * Returns the seat of the winner, or -1 if there is none yet.
+     */
+    public int getWinnerSeat() {
+        return Long.bitCount(activeSeats) == 1 ? Long.numberOfTrailingZeros(activeSeats) : -1;
+    }
+
+    /**
+     * Returns whether the game is over.
+     */
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    /**
+     * Returns the number of cards left in the deck.
+     */
+    public int getDeckSize() {
+        return deckSize;
+    }
+
+    /**
+     * Returns the name of the seat's player.
+     */
+    public String getPlayerName(int seat) {
+        return names[seat];
+    }
+
+    /**
+     * Returns whether the seat's player is a machine.
+     */
+    public boolean isMachine(int seat) {
+        return (machineSeats & (1L << seat)) != 0;
+    }
+
+    /**
+     * Returns the seat's hand, in order.
+     *
+     * @return an unmodifiable list
+     */
+    public List<Card> getHand(int seat) {
+        return List.of(hands[seat]);
+    }
+
+    /**
+     * Returns the number of cards in the seat's hand.
+     */
+    public int getHandSize(int seat) {
+        return hands[seat].length;
+    }
+
+    /**
+     * Returns a card of the seat's hand.
+     *
+     * @param seat  the seat
+     * @param index the position in the hand
+     */
+    public Card getCard(int seat, int index) {
+        return hands[seat][index];
+    }
+
+    /**
+     * Returns the bits of the seat's standard cards (see {@link cincuentazo.model.card.CardSet}).
+     */
+    public long getHandBits(int seat) {
+        return handBits[seat];
+    }
+
+    @Override
+    public String toString() {
+        return "GameSnapshot[v" + version + ", turn " + turn + ", sum " + tableSum + ", top " + topCard
+                + ", current " + currentSeat + ", active " + Long.toBinaryString(activeSeats) + "]";
+    }
+}
@@ -0,0 +1,33 @@
+package cincuentazo.model.game;
+
+/**
+ * Outcome of a play, draw or elimination in {@link Game}.
+ * Returned by the non-throwing turn API so that normal game flow
+ * (eliminations, empty decks) does not pay for building an exception.
+ */
+public enum MoveResult {
+
+    /** The card was placed on the table. */
+    PLAYED,
+
+    /** The card would take the table sum over 50; nothing changed. */
+    INVALID_MOVE,
+
+    /** The player had no valid card and was eliminated. */
+    ELIMINATED,
+
+    /** The player is not in the game or was already eliminated; nothing changed. */
+    NOT_ACTIVE,
+
+    /** A card was drawn from the deck. */
+    DREW,
+
+    /** The deck was empty, the table was recycled into it, and a card was drawn. */
+    DREW_AFTER_RECYCLE,
+
+    /** The player already holds four cards; nothing was drawn. */
+    HAND_FULL,
+
+    /** Neither the deck nor the table had a card to draw. */
+    DECK_EMPTY
+}
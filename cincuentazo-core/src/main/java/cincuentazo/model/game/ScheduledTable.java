@@ -0,0 +1,195 @@
+package cincuentazo.model.game;
+
+import cincuentazo.model.player.Player;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.random.RandomGenerator;
+
+/**
+ * A game driven as a state machine by a {@link TurnScheduler}.
+ * Each transition is a short task on the shared executor; machine thinking and
+ * the pause between turns are scheduled transitions, and a human turn simply
+ * parks the table in {@link State#WAITING_HUMAN} until {@link #endHumanTurn()}.
+ * Transitions are commands of the table's {@link GameCommandQueue}, so they never
+ * overlap with each other or with the commands the human submits through
+ * {@link #getCommands()}.
+ */
+public class ScheduledTable {
+
+    /**
+     * States of a table.
+     */
+    public enum State {
+        /** Created but not started yet. */
+        IDLE,
+        /** A machine is "thinking"; its move is scheduled. */
+        THINKING,
+        /** Waiting between two turns. */
+        PAUSED,
+        /** Waiting for the human to end their turn. */
+        WAITING_HUMAN,
+        /** The game is over. */
+        FINISHED,
+        /** Stopped before the game was over. */
+        STOPPED
+    }
+
+    private final Game game;
+    private final TablePacing pacing;
+    private final TableListener listener;
+    private final ScheduledExecutorService executor;
+    private final RandomGenerator random;
+    private final int maxTurns;
+    private final GameCommandQueue commands;
+    private final AtomicReference<State> state = new AtomicReference<>(State.IDLE);
+    private volatile int turns; // only written by transitions, which never overlap
+
+    ScheduledTable(Game game, TablePacing pacing, TableListener listener,
+                   ScheduledExecutorService executor, RandomGenerator random, int maxTurns) {
+        this.game = game;
+        this.pacing = pacing;
+        this.listener = listener;
+        this.executor = executor;
+        this.random = random;
+        this.maxTurns = maxTurns;
+        this.commands = new GameCommandQueue(game, executor);
+    }
+
+    /**
+     * Starts the first turn.
+     *
+     * @throws IllegalStateException if the table was already started
+     */
+    public void start() {
+        if (!state.compareAndSet(State.IDLE, State.PAUSED)) {
+            throw new IllegalStateException("Table already started: " + state.get());
+        }
+        post(this::nextTurn);
+    }
+
+    /**
+     * Ends the human's turn: the turn passes on and the next one starts right away.
+     * Does nothing if the table is not waiting for the human.
+     */
+    public void endHumanTurn() {
+        if (state.compareAndSet(State.WAITING_HUMAN, State.PAUSED)) {
+            post(() -> {
+                game.advanceTurn();
+                nextTurn();
+            });
+        }
+    }
+
+    /**
+     * Stops the table; scheduled transitions become no-ops and no more callbacks are made.
+     */
+    public void stop() {
+        State current;
+        do {
+            current = state.get();
+            if (current == State.FINISHED || current == State.STOPPED) {
+                return;
+            }
+        } while (!state.compareAndSet(current, State.STOPPED));
+        commands.execute(Game::stop);
+    }
+
+    /**
+     * Returns the current state.
+     */
+    public State getState() {
+        return state.get();
+    }
+
+    /**
+     * Returns the hosted game. Outside the table's callbacks it should only be
+     * mutated or read through {@link #getCommands()}.
+     */
+    public Game getGame() {
+        return game;
+    }
+
+    /**
+     * Returns the queue that serializes every change to the game.
+     */
+    public GameCommandQueue getCommands() {
+        return commands;
+    }
+
+    /**
+     * Returns the number of turns played so far.
+     */
+    public int getTurns() {
+        return turns;
+    }
+
+    /**
+     * Starts the turn of the current player, or finishes the game.
+     */
+    private void nextTurn() {
+        if (state.get() != State.PAUSED) {
+            return; // stopped meanwhile
+        }
+        if (game.isGameOver() || game.getActivePlayerCount() <= 1 || turns >= maxTurns) {
+            if (state.compareAndSet(State.PAUSED, State.FINISHED)) {
+                listener.onGameOver(game.getWinner());
+            }
+            return;
+        }
+
+        Player current = game.getCurrentPlayer();
+        if (current == null) {
+            game.advanceTurn();
+            post(this::nextTurn);
+            return;
+        }
+
+        turns++;
+        listener.onTurnStarted(current);
+        if (current.isMachine()) {
+            if (state.compareAndSet(State.PAUSED, State.THINKING)) {
+                schedule(() -> machineMove(current), thinkNanos());
+            }
+        } else if (state.compareAndSet(State.PAUSED, State.WAITING_HUMAN)) {
+            listener.onHumanTurn(current);
+        }
+    }
+
+    /**
+     * Plays the machine's move once its thinking time is over.
+     */
+    private void machineMove(Player cpu) {
+        if (state.get() != State.THINKING) {
+            return;
+        }
+        MoveResult result = game.playMachineTurn(cpu);
+        listener.onMachineMove(cpu, result);
+        game.advanceTurn();
+        if (state.compareAndSet(State.THINKING, State.PAUSED)) {
+            schedule(this::nextTurn, pacing.getPauseNanos());
+        }
+    }
+
+    private long thinkNanos() {
+        long min = pacing.getMinThinkNanos();
+        long max = pacing.getMaxThinkNanos();
+        return max > min ? random.nextLong(min, max) : min;
+    }
+
+    /**
+     * Queues a transition as a command.
+     */
+    private void post(Runnable transition) {
+        commands.execute(g -> transition.run());
+    }
+
+    private void schedule(Runnable transition, long delayNanos) {
+        if (delayNanos == 0) {
+            post(transition);
+        } else {
+            executor.schedule(() -> post(transition), delayNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+}
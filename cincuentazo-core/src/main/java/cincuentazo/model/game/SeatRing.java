@@ -0,0 +1,96 @@
+package cincuentazo.model.game;
+
+/**
+ * Circular, doubly linked list of the seats still in the game.
+ * Seats are plain indices into the game's player list, so looking up the
+ * current seat, passing the turn and removing an eliminated seat are all O(1)
+ * and never allocate.
+ */
+class SeatRing {
+
+    private final int[] next;
+    private final int[] prev;
+    private final boolean[] removed;
+    private int current;
+    private int anchor; // any seat still in the ring
+    private int size;
+
+    /**
+     * Creates a ring with seats {@code 0..seats-1}, starting at seat 0.
+     *
+     * @param seats number of seats
+     */
+    SeatRing(int seats) {
+        next = new int[seats];
+        prev = new int[seats];
+        removed = new boolean[seats];
+        for (int i = 0; i < seats; i++) {
+            next[i] = (i + 1) % seats;
+            prev[i] = (i + seats - 1) % seats;
+        }
+        size = seats;
+    }
+
+    /**
+     * Returns the seat whose turn it is. It may have been removed since the
+     * turn started, in which case {@link #isActive(int)} is false for it.
+     */
+    int current() {
+        return current;
+    }
+
+    /**
+     * Passes the turn to the next seat still in the ring.
+     * Works even when the current seat was just removed, because a removed
+     * seat keeps its link to the seat that followed it.
+     */
+    void advance() {
+        if (size == 0) {
+            return;
+        }
+        do {
+            current = next[current];
+        } while (removed[current]);
+    }
+
+    /**
+     * Removes a seat from the ring.
+     *
+     * @param seat the seat to remove
+     * @return {@code true} if the seat was in the ring
+     */
+    boolean remove(int seat) {
+        if (removed[seat]) {
+            return false;
+        }
+        removed[seat] = true;
+        size--;
+        next[prev[seat]] = next[seat];
+        prev[next[seat]] = prev[seat];
+        if (anchor == seat) {
+            anchor = next[seat];
+        }
+        return true;
+    }
+
+    /**
+     * Returns whether the seat is still in the ring.
+     */
+    boolean isActive(int seat) {
+        return !removed[seat];
+    }
+
+    /**
+     * Returns the number of seats still in the ring.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the last seat left, or -1 while more than one seat remains.
+     */
+    int survivor() {
+        return size == 1 ? anchor : -1;
+    }
+}
@@ -0,0 +1,125 @@
+package cincuentazo.model.game;
+
+import cincuentazo.model.exceptions.EmptyDeckException;
+import cincuentazo.model.random.RandomSource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Creates, tracks and tears down game sessions, each one running its blocking
+ * turn loop on a virtual thread. A sleeping or waiting session costs a small
+ * heap-allocated stack instead of a platform thread, so one JVM can keep many
+ * thousands of tables open. Every session records its turn latency in the
+ * host's shared {@link LatencyHistogram}.
+ */
+public class SessionHost implements AutoCloseable {
+
+    private final ThreadFactory threads = Thread.ofVirtual().name("game-session-", 0).factory(); // thread-safe, unlike the builder
+    private final Map<Long, GameSession> sessions = new ConcurrentHashMap<>();
+    private final AtomicLong nextId = new AtomicLong();
+    private final LatencyHistogram turnLatency = new LatencyHistogram();
+    private volatile boolean closed;
+
+    /**
+     * Opens a session with a new game.
+     *
+     * @param numMachines number of CPU players
+     * @param humanSeat   {@code true} to seat a human first
+     * @param pacing      the artificial delays
+     * @param listener    receives the session's transitions, on the session's thread
+     * @return the running session
+     * @throws EmptyDeckException if the deck cannot deal the initial cards
+     */
+    public GameSession open(int numMachines, boolean humanSeat, TablePacing pacing, TableListener listener)
+            throws EmptyDeckException {
+        return open(new Game(numMachines, humanSeat), pacing, listener);
+    }
+
+    /**
+     * Opens a session for an existing game.
+     *
+     * @param game     the game to play
+     * @param pacing   the artificial delays
+     * @param listener receives the session's transitions, on the session's thread
+     * @return the running session
+     * @throws IllegalStateException if the host is closed
+     */
+    public GameSession open(Game game, TablePacing pacing, TableListener listener) {
+        if (closed) {
+            throw new IllegalStateException("Session host is closed");
+        }
+        long id = nextId.getAndIncrement();
+        GameSession session = new GameSession(id, game, pacing, listener, RandomSource.newGenerator(), turnLatency,
+                threads, () -> sessions.remove(id));
+        sessions.put(id, session);
+        session.start();
+        if (closed) {
+            session.close(); // the host closed while this session was being opened
+        }
+        return session;
+    }
+
+    /**
+     * Returns the session with the given id, or null if it is not running.
+     */
+    public GameSession getSession(long id) {
+        return sessions.get(id);
+    }
+
+    /**
+     * Returns the running sessions.
+     */
+    public Collection<GameSession> getSessions() {
+        return List.copyOf(sessions.values());
+    }
+
+    /**
+     * Returns the number of running sessions.
+     */
+    public int getActiveSessions() {
+        return sessions.size();
+    }
+
+    /**
+     * Returns the turn latency of every session of this host.
+     */
+    public LatencyHistogram getTurnLatency() {
+        return turnLatency;
+    }
+
+    /**
+     * Waits until every session has exited.
+     *
+     * @param timeout the longest time to wait
+     * @return {@code true} if no session is left
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean awaitAll(Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        for (GameSession session : new ArrayList<>(sessions.values())) {
+            long left = deadline - System.nanoTime();
+            if (left <= 0 || !session.await(Duration.ofNanos(left))) {
+                return sessions.isEmpty();
+            }
+        }
+        return sessions.isEmpty();
+    }
+
+    /**
+     * Closes every session and refuses new ones.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        for (GameSession session : sessions.values()) {
+            session.close();
+        }
+    }
+}
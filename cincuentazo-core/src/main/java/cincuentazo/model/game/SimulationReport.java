@@ -0,0 +1,136 @@
+package cincuentazo.model.game;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Immutable summary of a {@link GameSimulator} run.
+ * Reports throughput, game length and how often each seat won.
+ */
+public class SimulationReport {
+
+    private final int seats;
+    private final long seed;
+    private final long games;
+    private final long unfinished;
+    private final long totalTurns;
+    private final int minTurns;
+    private final int maxTurns;
+    private final long[] winsBySeat;
+    private final long elapsedNanos;
+
+    SimulationReport(int seats, long seed, SimulationTally tally, long elapsedNanos) {
+        this.seats = seats;
+        this.seed = seed;
+        this.games = tally.games;
+        this.unfinished = tally.unfinished;
+        this.totalTurns = tally.totalTurns;
+        this.minTurns = tally.games == 0 ? 0 : tally.minTurns;
+        this.maxTurns = tally.maxTurns;
+        this.winsBySeat = tally.winsBySeat.clone();
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Returns the seed of the run; running again with it replays every game.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the number of games played.
+     */
+    public long getGames() {
+        return games;
+    }
+
+    /**
+     * Returns the number of games that ended without a winner (turn limit reached).
+     */
+    public long getUnfinished() {
+        return unfinished;
+    }
+
+    /**
+     * Returns the total number of turns played over all games.
+     */
+    public long getTotalTurns() {
+        return totalTurns;
+    }
+
+    /**
+     * Returns the length of the shortest game, in turns.
+     */
+    public int getMinTurns() {
+        return minTurns;
+    }
+
+    /**
+     * Returns the length of the longest game, in turns.
+     */
+    public int getMaxTurns() {
+        return maxTurns;
+    }
+
+    /**
+     * Returns the average game length, in turns.
+     */
+    public double getAverageTurns() {
+        return games == 0 ? 0 : (double) totalTurns / games;
+    }
+
+    /**
+     * Returns how many games the given seat won.
+     *
+     * @param seat seat index, starting at 0
+     */
+    public long getWins(int seat) {
+        return winsBySeat[seat];
+    }
+
+    /**
+     * Returns the fraction of all games won by the given seat.
+     *
+     * @param seat seat index, starting at 0
+     */
+    public double getWinRate(int seat) {
+        return games == 0 ? 0 : (double) winsBySeat[seat] / games;
+    }
+
+    /**
+     * Returns the wall-clock duration of the run in nanoseconds.
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Returns the throughput of the run.
+     */
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : games * 1e9 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format(Locale.ROOT, "Games: %d (%d unfinished) in %.3f s → %.0f games/s%n",
+                games, unfinished, elapsedNanos / 1e9, getGamesPerSecond()));
+        sb.append(String.format(Locale.ROOT, "Seed: %d%n", seed));
+        sb.append(String.format(Locale.ROOT, "Turns per game: avg %.2f, min %d, max %d%n",
+                getAverageTurns(), minTurns, maxTurns));
+        for (int seat = 0; seat < seats; seat++) {
+            sb.append(String.format(Locale.ROOT, "CPU-%d: %d wins (%.2f%%)%n",
+                    seat + 1, winsBySeat[seat], getWinRate(seat) * 100));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Returns a copy of the wins per seat.
+     */
+    public long[] getWinsBySeat() {
+        return Arrays.copyOf(winsBySeat, winsBySeat.length);
+    }
+}
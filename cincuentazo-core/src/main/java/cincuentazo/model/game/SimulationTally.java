@@ -0,0 +1,54 @@
+package cincuentazo.model.game;
+
+/**
+ * Mutable accumulator used by {@link GameSimulator} while games are being played.
+ * Each fork-join task fills its own tally, and tallies are merged when tasks join,
+ * so no synchronization is needed.
+ */
+class SimulationTally {
+
+    final long[] winsBySeat;
+    long games;
+    long unfinished;
+    long totalTurns;
+    int minTurns = Integer.MAX_VALUE;
+    int maxTurns;
+
+    SimulationTally(int seats) {
+        this.winsBySeat = new long[seats];
+    }
+
+    /**
+     * Records a finished (or abandoned) game.
+     *
+     * @param turns      number of turns the game lasted
+     * @param winnerSeat seat index of the winner, or -1 if there was none
+     */
+    void record(int turns, int winnerSeat) {
+        games++;
+        totalTurns += turns;
+        minTurns = Math.min(minTurns, turns);
+        maxTurns = Math.max(maxTurns, turns);
+        if (winnerSeat >= 0) {
+            winsBySeat[winnerSeat]++;
+        } else {
+            unfinished++;
+        }
+    }
+
+    /**
+     * Adds the results of another tally to this one.
+     *
+     * @param other the tally to merge
+     */
+    void merge(SimulationTally other) {
+        games += other.games;
+        unfinished += other.unfinished;
+        totalTurns += other.totalTurns;
+        minTurns = Math.min(minTurns, other.minTurns);
+        maxTurns = Math.max(maxTurns, other.maxTurns);
+        for (int i = 0; i < winsBySeat.length; i++) {
+            winsBySeat[i] += other.winsBySeat[i];
+        }
+    }
+}
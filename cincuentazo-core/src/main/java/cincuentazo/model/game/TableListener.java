@@ -0,0 +1,45 @@
+package cincuentazo.model.game;
+
+import cincuentazo.model.player.Player;
+
+/**
+ * Receives the transitions of a table hosted by a {@link TurnScheduler}.
+ * Callbacks run on the scheduler's threads, one at a time per table; a listener
+ * that touches a user interface must hand the work over to its own thread.
+ * Every method does nothing by default.
+ */
+public interface TableListener {
+
+    /**
+     * A player's turn has started.
+     *
+     * @param player the player whose turn it is
+     */
+    default void onTurnStarted(Player player) {
+    }
+
+    /**
+     * A machine has taken its turn.
+     *
+     * @param cpu    the machine
+     * @param result {@link MoveResult#PLAYED} or {@link MoveResult#ELIMINATED}
+     */
+    default void onMachineMove(Player cpu, MoveResult result) {
+    }
+
+    /**
+     * It is a human's turn; the table waits until {@link ScheduledTable#endHumanTurn()} is called.
+     *
+     * @param human the human player
+     */
+    default void onHumanTurn(Player human) {
+    }
+
+    /**
+     * The game is over, or the table gave up after too many turns.
+     *
+     * @param winner the winner, or null if there is none
+     */
+    default void onGameOver(Player winner) {
+    }
+}
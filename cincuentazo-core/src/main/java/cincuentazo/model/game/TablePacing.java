@@ -0,0 +1,63 @@
+package cincuentazo.model.game;
+
+import java.time.Duration;
+
+/**
+ * Artificial delays of a table hosted by a {@link TurnScheduler}.
+ * A machine "thinks" for a random time between the minimum and the maximum
+ * before moving, and the table then pauses before the next turn starts.
+ * The delays are scheduled events, so a pacing table never holds a thread.
+ */
+public final class TablePacing {
+
+    /**
+     * No delay at all: machine turns follow each other immediately.
+     */
+    public static final TablePacing NONE = new TablePacing(Duration.ZERO, Duration.ZERO, Duration.ZERO);
+
+    /**
+     * The pace of the desktop game: 2 to 4 seconds of thinking and half a second between turns.
+     */
+    public static final TablePacing DEFAULT = new TablePacing(Duration.ofMillis(2000), Duration.ofMillis(4000), Duration.ofMillis(500));
+
+    private final long minThinkNanos;
+    private final long maxThinkNanos;
+    private final long pauseNanos;
+
+    /**
+     * Creates a pacing.
+     *
+     * @param minThink shortest machine thinking time
+     * @param maxThink longest machine thinking time (exclusive unless equal to the minimum)
+     * @param pause    pause after every machine move
+     */
+    public TablePacing(Duration minThink, Duration maxThink, Duration pause) {
+        if (minThink.isNegative() || pause.isNegative() || maxThink.compareTo(minThink) < 0) {
+            throw new IllegalArgumentException("Invalid pacing: think " + minThink + ".." + maxThink + ", pause " + pause);
+        }
+        this.minThinkNanos = minThink.toNanos();
+        this.maxThinkNanos = maxThink.toNanos();
+        this.pauseNanos = pause.toNanos();
+    }
+
+    /**
+     * Returns the shortest machine thinking time in nanoseconds.
+     */
+    public long getMinThinkNanos() {
+        return minThinkNanos;
+    }
+
+    /**
+     * Returns the longest machine thinking time in nanoseconds.
+     */
+    public long getMaxThinkNanos() {
+        return maxThinkNanos;
+    }
+
+    /**
+     * Returns the pause after every machine move in nanoseconds.
+     */
+    public long getPauseNanos() {
+        return pauseNanos;
+    }
+}
@@ -0,0 +1,225 @@
+package cincuentazo.model.game;
+
+import cincuentazo.model.ai.MctsStrategy;
+import cincuentazo.model.ai.StrategyRegistry;
+import cincuentazo.model.exceptions.EmptyDeckException;
+import cincuentazo.model.player.MachineStrategy;
+import cincuentazo.model.random.RandomSource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Round-robin tournament between machine strategies.
+ * Every pair of strategies plays heads-up games in both seatings, N games per
+ * seating. Game {@code j} of a pair is dealt from the same seeded generator in
+ * both seatings, so each strategy plays the same deals from both seats and the
+ * luck of the deal cancels out. Games are spread over a fork-join pool like
+ * {@link GameSimulator}, and every decision is timed into a
+ * {@link LatencyHistogram} per strategy.
+ * <p>
+ * By default the games get a pool of their own with half the cores (see
+ * {@link #defaultGameThreads()}); the other half is left to strategies that
+ * search in parallel, such as {@code mcts} on {@link MctsStrategy#searchPool()}.
+ * Games never share a pool with those searches, so a decision's time budget
+ * is not spent queued behind, or running, other games.
+ */
+public class Tournament {
+
+    /**
+     * Number of games a single fork-join task plays before it stops splitting.
+     */
+    private static final int BATCH_SIZE = 8;
+
+    private final List<String> strategies;
+    private final int gamesPerSeating;
+    private final int maxTurns;
+    private final ForkJoinPool pool; // null: a pool of defaultGameThreads() per run
+    private final long seed;
+    private final int[][] seatings; // {first, second} strategy indices
+
+    /**
+     * Creates a tournament that plays its games on a pool of its own with
+     * {@link #defaultGameThreads()} threads.
+     *
+     * @param strategies      names registered in {@link StrategyRegistry#getDefault()}
+     * @param gamesPerSeating games each pair plays in each seating
+     * @param seed            seed the deals and the strategies are derived from
+     */
+    public Tournament(List<String> strategies, int gamesPerSeating, long seed) {
+        this(strategies, gamesPerSeating, GameSimulator.DEFAULT_MAX_TURNS, null, seed);
+    }
+
+    /**
+     * Returns the number of games played at once by default: half the cores,
+     * leaving the rest to the parallel searches of the strategies.
+     */
+    public static int defaultGameThreads() {
+        return Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    }
+
+    /**
+     * Creates a tournament.
+     *
+     * @param strategies      names registered in {@link StrategyRegistry#getDefault()}, at least two
+     * @param gamesPerSeating games each pair plays in each seating
+     * @param maxTurns        turn limit after which a game counts as unfinished
+     * @param pool            the pool the games are played on, or null for a pool of its own
+     *                        with {@link #defaultGameThreads()} threads; it should not be the
+     *                        pool the strategies search on
+     * @param seed            seed the deals and the strategies are derived from
+     */
+    public Tournament(List<String> strategies, int gamesPerSeating, int maxTurns, ForkJoinPool pool, long seed) {
+        if (strategies.size() < 2) {
+            throw new IllegalArgumentException("A tournament needs at least two strategies: " + strategies);
+        }
+        if (strategies.stream().distinct().count() != strategies.size()) {
+            throw new IllegalArgumentException("Strategies must be distinct: " + strategies);
+        }
+        for (String name : strategies) {
+            if (!StrategyRegistry.getDefault().contains(name)) {
+                throw new IllegalArgumentException("Unknown machine strategy: " + name);
+            }
+        }
+        if (gamesPerSeating <= 0) {
+            throw new IllegalArgumentException("gamesPerSeating must be positive: " + gamesPerSeating);
+        }
+        if (maxTurns <= 0) {
+            throw new IllegalArgumentException("maxTurns must be positive: " + maxTurns);
+        }
+        this.strategies = List.copyOf(strategies);
+        this.gamesPerSeating = gamesPerSeating;
+        this.maxTurns = maxTurns;
+        this.pool = pool;
+        this.seed = seed;
+
+        List<int[]> order = new ArrayList<>();
+        for (int a = 0; a < strategies.size(); a++) {
+            for (int b = a + 1; b < strategies.size(); b++) {
+                order.add(new int[]{a, b});
+                order.add(new int[]{b, a});
+            }
+        }
+        this.seatings = order.toArray(new int[0][]);
+    }
+
+    /**
+     * Plays every game of the tournament and reports the results.
+     *
+     * @return the report
+     */
+    public TournamentReport run() {
+        LatencyHistogram[] latency = new LatencyHistogram[strategies.size()];
+        Arrays.setAll(latency, i -> new LatencyHistogram());
+        ForkJoinPool games = pool != null ? pool : new ForkJoinPool(defaultGameThreads());
+        long start = System.nanoTime();
+        TournamentTally tally;
+        try {
+            tally = games.invoke(new TournamentTask(latency, 0, (long) seatings.length * gamesPerSeating));
+        } finally {
+            if (games != pool) {
+                games.shutdown();
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        return new TournamentReport(strategies, gamesPerSeating, seed, tally, latency, elapsed);
+    }
+
+    /**
+     * Plays game {@code index}: seating {@code index / gamesPerSeating}, deal {@code index % gamesPerSeating}.
+     */
+    private void playOne(TournamentTally tally, LatencyHistogram[] latency, long index) {
+        int[] seating = seatings[(int) (index / gamesPerSeating)];
+        long pair = index / (2L * gamesPerSeating); // both seatings of a pair share their deals
+        long deal = pair * gamesPerSeating + index % gamesPerSeating;
+        try {
+            Game game = new Game(false, List.of(strategies.get(seating[0]), strategies.get(seating[1])),
+                    RandomSource.forIndex(seed, deal));
+            for (int seat = 0; seat < 2; seat++) {
+                game.setStrategy(seat, timed(game.getStrategy(seat), latency[seating[seat]]));
+            }
+            int turns = GameSimulator.playOut(game, maxTurns);
+            int winner = game.isGameOver() && game.getWinner() != null ? game.getPlayers().indexOf(game.getWinner()) : -1;
+            tally.record(seating[0], seating[1], winner, turns);
+        } catch (EmptyDeckException e) {
+            tally.record(seating[0], seating[1], -1, 0);
+        }
+    }
+
+    private static MachineStrategy timed(MachineStrategy strategy, LatencyHistogram latency) {
+        return view -> {
+            long start = System.nanoTime();
+            try {
+                return strategy.chooseCard(view);
+            } finally {
+                latency.record(System.nanoTime() - start);
+            }
+        };
+    }
+
+    /**
+     * Fork-join task that plays the games in the range [from, to).
+     */
+    private class TournamentTask extends RecursiveTask<TournamentTally> {
+        private final LatencyHistogram[] latency;
+        private final long from;
+        private final long to;
+
+        TournamentTask(LatencyHistogram[] latency, long from, long to) {
+            this.latency = latency;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected TournamentTally compute() {
+            if (to - from <= BATCH_SIZE) {
+                TournamentTally tally = new TournamentTally(strategies.size());
+                for (long i = from; i < to; i++) {
+                    playOne(tally, latency, i);
+                }
+                return tally;
+            }
+
+            long mid = (from + to) >>> 1;
+            TournamentTask left = new TournamentTask(latency, from, mid);
+            TournamentTask right = new TournamentTask(latency, mid, to);
+            left.fork();
+            TournamentTally result = right.compute();
+            result.merge(left.join());
+            return result;
+        }
+    }
+
+    /**
+     * Runs a tournament from the command line and writes {@code <output>.csv} and {@code <output>.json}.
+     * Usage: {@code Tournament [gamesPerSeating] [strategy,strategy,...] [seed] [output] [gameThreads]}
+     *
+     * @param args optional games per seating, comma-separated strategy names
+     *             (default: all registered), seed, output path prefix and number
+     *             of games played at once (default: {@link #defaultGameThreads()})
+     * @throws IOException if the results cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        List<String> names = args.length > 1 ? List.of(args[1].split(",")) : StrategyRegistry.getDefault().getNames();
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : RandomSource.randomSeed();
+        String output = args.length > 3 ? args[3] : "tournament";
+        ForkJoinPool pool = args.length > 4 ? new ForkJoinPool(Integer.parseInt(args[4])) : null;
+
+        TournamentReport report = new Tournament(names, games, GameSimulator.DEFAULT_MAX_TURNS, pool, seed).run();
+        if (pool != null) {
+            pool.shutdown();
+        }
+        System.out.println(report);
+        Files.writeString(Path.of(output + ".csv"), report.toCsv());
+        Files.writeString(Path.of(output + ".json"), report.toJson());
+        System.out.println("Results written to " + output + ".csv and " + output + ".json");
+    }
+}
@@ -0,0 +1,266 @@
+package cincuentazo.model.game;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Immutable summary of a {@link Tournament}.
+ * For each strategy it reports the win rate with a 95% Wilson score interval
+ * and the p50/p99 latency of its decisions; for each pair, the head-to-head
+ * score. It can be exported as CSV (one row per strategy) or JSON (everything).
+ */
+public class TournamentReport {
+
+    /**
+     * Normal quantile of a two-sided 95% interval.
+     */
+    private static final double Z_95 = 1.959964;
+
+    private final List<String> strategies;
+    private final int gamesPerSeating;
+    private final long seed;
+    private final long[] games;
+    private final long[] wins;
+    private final long[][] pairGames;
+    private final long[][] pairWins;
+    private final long unfinished;
+    private final long totalTurns;
+    private final long[] decisions;
+    private final long[] p50Nanos;
+    private final long[] p99Nanos;
+    private final long[] maxNanos;
+    private final long elapsedNanos;
+
+    TournamentReport(List<String> strategies, int gamesPerSeating, long seed, TournamentTally tally,
+                     LatencyHistogram[] latency, long elapsedNanos) {
+        int count = strategies.size();
+        this.strategies = strategies;
+        this.gamesPerSeating = gamesPerSeating;
+        this.seed = seed;
+        this.games = tally.games.clone();
+        this.wins = tally.wins.clone();
+        this.pairGames = new long[count][];
+        this.pairWins = new long[count][];
+        for (int i = 0; i < count; i++) {
+            pairGames[i] = tally.pairGames[i].clone();
+            pairWins[i] = tally.pairWins[i].clone();
+        }
+        this.unfinished = tally.unfinished;
+        this.totalTurns = tally.totalTurns;
+        this.decisions = new long[count];
+        this.p50Nanos = new long[count];
+        this.p99Nanos = new long[count];
+        this.maxNanos = new long[count];
+        for (int i = 0; i < count; i++) {
+            decisions[i] = latency[i].getCount();
+            p50Nanos[i] = latency[i].getQuantileNanos(0.50);
+            p99Nanos[i] = latency[i].getQuantileNanos(0.99);
+            maxNanos[i] = latency[i].getMaxNanos();
+        }
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Returns the strategy names, in the order the indices of this report refer to.
+     */
+    public List<String> getStrategies() {
+        return strategies;
+    }
+
+    /**
+     * Returns the seed of the tournament; running again with it replays every deal.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the number of games each pair played in each seating.
+     */
+    public int getGamesPerSeating() {
+        return gamesPerSeating;
+    }
+
+    /**
+     * Returns the total number of games played.
+     */
+    public long getTotalGames() {
+        long sum = 0;
+        for (long g : games) {
+            sum += g;
+        }
+        return sum / 2; // every game counts for both strategies
+    }
+
+    /**
+     * Returns the number of games that reached the turn limit without a winner.
+     */
+    public long getUnfinished() {
+        return unfinished;
+    }
+
+    /**
+     * Returns the number of games a strategy played.
+     *
+     * @param strategy index into {@link #getStrategies()}
+     */
+    public long getGames(int strategy) {
+        return games[strategy];
+    }
+
+    /**
+     * Returns the number of games a strategy won.
+     *
+     * @param strategy index into {@link #getStrategies()}
+     */
+    public long getWins(int strategy) {
+        return wins[strategy];
+    }
+
+    /**
+     * Returns the fraction of its games a strategy won.
+     *
+     * @param strategy index into {@link #getStrategies()}
+     */
+    public double getWinRate(int strategy) {
+        return games[strategy] == 0 ? 0 : (double) wins[strategy] / games[strategy];
+    }
+
+    /**
+     * Returns the 95% Wilson score interval of a strategy's win rate.
+     *
+     * @param strategy index into {@link #getStrategies()}
+     * @return {@code {low, high}}
+     */
+    public double[] getWinRateInterval(int strategy) {
+        return wilson(wins[strategy], games[strategy]);
+    }
+
+    /**
+     * Returns how many games {@code strategy} won against {@code opponent}.
+     */
+    public long getWinsAgainst(int strategy, int opponent) {
+        return pairWins[strategy][opponent];
+    }
+
+    /**
+     * Returns how many games {@code strategy} played against {@code opponent}.
+     */
+    public long getGamesAgainst(int strategy, int opponent) {
+        return pairGames[strategy][opponent];
+    }
+
+    /**
+     * Returns the number of decisions a strategy made.
+     */
+    public long getDecisions(int strategy) {
+        return decisions[strategy];
+    }
+
+    /**
+     * Returns the median decision latency of a strategy, in nanoseconds.
+     */
+    public long getP50Nanos(int strategy) {
+        return p50Nanos[strategy];
+    }
+
+    /**
+     * Returns the 99th percentile decision latency of a strategy, in nanoseconds.
+     */
+    public long getP99Nanos(int strategy) {
+        return p99Nanos[strategy];
+    }
+
+    /**
+     * Returns the slowest decision of a strategy, in nanoseconds.
+     */
+    public long getMaxNanos(int strategy) {
+        return maxNanos[strategy];
+    }
+
+    /**
+     * Returns the wall-clock duration of the tournament in nanoseconds.
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    private static double[] wilson(long successes, long trials) {
+        if (trials == 0) {
+            return new double[]{0, 1};
+        }
+        double p = (double) successes / trials;
+        double z2 = Z_95 * Z_95;
+        double denominator = 1 + z2 / trials;
+        double center = (p + z2 / (2.0 * trials)) / denominator;
+        double half = Z_95 * Math.sqrt(p * (1 - p) / trials + z2 / (4.0 * trials * trials)) / denominator;
+        return new double[]{Math.max(0, center - half), Math.min(1, center + half)};
+    }
+
+    /**
+     * Returns one CSV row per strategy, with a header line.
+     */
+    public String toCsv() {
+        StringBuilder sb = new StringBuilder("strategy,games,wins,win_rate,ci95_low,ci95_high,decisions,p50_ms,p99_ms,max_ms\n");
+        for (int i = 0; i < strategies.size(); i++) {
+            double[] ci = getWinRateInterval(i);
+            sb.append(String.format(Locale.ROOT, "%s,%d,%d,%.4f,%.4f,%.4f,%d,%.4f,%.4f,%.4f%n",
+                    strategies.get(i), games[i], wins[i], getWinRate(i), ci[0], ci[1],
+                    decisions[i], p50Nanos[i] / 1e6, p99Nanos[i] / 1e6, maxNanos[i] / 1e6));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Returns the whole report, per strategy and per pair, as a JSON object.
+     */
+    public String toJson() {
+        StringBuilder sb = new StringBuilder("{\n");
+        sb.append(String.format(Locale.ROOT, "  \"seed\": %d,%n  \"gamesPerSeating\": %d,%n  \"games\": %d,%n"
+                        + "  \"unfinished\": %d,%n  \"elapsedSeconds\": %.3f,%n",
+                seed, gamesPerSeating, getTotalGames(), unfinished, elapsedNanos / 1e9));
+        sb.append("  \"strategies\": [\n");
+        for (int i = 0; i < strategies.size(); i++) {
+            double[] ci = getWinRateInterval(i);
+            sb.append(String.format(Locale.ROOT, "    {\"name\": %s, \"games\": %d, \"wins\": %d, \"winRate\": %.4f, "
+                            + "\"ci95\": [%.4f, %.4f], \"decisions\": %d, \"p50Ms\": %.4f, \"p99Ms\": %.4f, \"maxMs\": %.4f}",
+                    quote(strategies.get(i)), games[i], wins[i], getWinRate(i), ci[0], ci[1],
+                    decisions[i], p50Nanos[i] / 1e6, p99Nanos[i] / 1e6, maxNanos[i] / 1e6));
+            sb.append(i + 1 < strategies.size() ? ",\n" : "\n");
+        }
+        sb.append("  ],\n  \"pairings\": [\n");
+        boolean first = true;
+        for (int a = 0; a < strategies.size(); a++) {
+            for (int b = a + 1; b < strategies.size(); b++) {
+                if (!first) {
+                    sb.append(",\n");
+                }
+                first = false;
+                sb.append(String.format(Locale.ROOT, "    {\"a\": %s, \"b\": %s, \"games\": %d, \"winsA\": %d, \"winsB\": %d}",
+                        quote(strategies.get(a)), quote(strategies.get(b)), pairGames[a][b],
+                        pairWins[a][b], pairWins[b][a]));
+            }
+        }
+        return sb.append("\n  ]\n}\n").toString();
+    }
+
+    private static String quote(String text) {
+        return '"' + text.replace("\\", "\\\\").replace("\"", "\\\"") + '"';
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format(Locale.ROOT, "Tournament: %d games (%d unfinished) in %.3f s, seed %d%n",
+                getTotalGames(), unfinished, elapsedNanos / 1e9, seed));
+        sb.append(String.format(Locale.ROOT, "%-10s %8s %8s  %-21s %10s %10s%n",
+                "Strategy", "Games", "Win %", "95% CI", "p50 ms", "p99 ms"));
+        for (int i = 0; i < strategies.size(); i++) {
+            double[] ci = getWinRateInterval(i);
+            sb.append(String.format(Locale.ROOT, "%-10s %8d %7.2f%%  [%6.2f%%, %6.2f%%]   %10.3f %10.3f%n",
+                    strategies.get(i), games[i], getWinRate(i) * 100, ci[0] * 100, ci[1] * 100,
+                    p50Nanos[i] / 1e6, p99Nanos[i] / 1e6));
+        }
+        return sb.toString();
+    }
+}
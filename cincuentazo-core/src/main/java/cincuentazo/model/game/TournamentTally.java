@@ -0,0 +1,64 @@
+package cincuentazo.model.game;
+
+/**
+ * Mutable accumulator used by {@link Tournament} while games are being played.
+ * Like {@link SimulationTally}, each fork-join task fills its own tally and
+ * tallies are merged when tasks join.
+ */
+class TournamentTally {
+
+    final long[] games;
+    final long[] wins;
+    final long[][] pairGames; // [a][b]: games a played against b
+    final long[][] pairWins;  // [a][b]: games a won against b
+    long unfinished;
+    long totalTurns;
+
+    TournamentTally(int strategies) {
+        this.games = new long[strategies];
+        this.wins = new long[strategies];
+        this.pairGames = new long[strategies][strategies];
+        this.pairWins = new long[strategies][strategies];
+    }
+
+    /**
+     * Records a heads-up game.
+     *
+     * @param first  strategy in seat 0
+     * @param second strategy in seat 1
+     * @param winner seat of the winner, or -1 if the turn limit was reached
+     * @param turns  number of turns the game lasted
+     */
+    void record(int first, int second, int winner, int turns) {
+        games[first]++;
+        games[second]++;
+        pairGames[first][second]++;
+        pairGames[second][first]++;
+        totalTurns += turns;
+        if (winner == 0) {
+            wins[first]++;
+            pairWins[first][second]++;
+        } else if (winner == 1) {
+            wins[second]++;
+            pairWins[second][first]++;
+        } else {
+            unfinished++;
+        }
+    }
+
+    /**
+     * Adds the results of another tally to this one.
+     */
+    void merge(TournamentTally other) {
+        for (int i = 0; i < games.length; i++) {
+            games[i] += other.games[i];
+            wins[i] += other.wins[i];
+            for (int j = 0; j < games.length; j++) {
+                pairGames[i][j] += other.pairGames[i][j];
+                pairWins[i][j] += other.pairWins[i][j];
+            }
+        }
+        unfinished += other.unfinished;
+        totalTurns += other.totalTurns;
+    }
+}
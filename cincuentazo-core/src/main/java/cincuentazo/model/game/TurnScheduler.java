@@ -0,0 +1,94 @@
+package cincuentazo.model.game;
+
+import cincuentazo.model.random.RandomSource;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Drives many tables from a small shared {@link ScheduledExecutorService}.
+ * A table is a {@link ScheduledTable} state machine: turns, machine thinking
+ * and pauses are timed transitions instead of sleeping threads, so a single
+ * thread can keep hundreds of tables moving.
+ */
+public class TurnScheduler implements AutoCloseable {
+
+    private final ScheduledExecutorService executor;
+    private final boolean ownsExecutor;
+
+    /**
+     * Creates a scheduler with its own daemon threads.
+     *
+     * @param threads number of threads driving the tables
+     */
+    public TurnScheduler(int threads) {
+        this(newExecutor(threads), true);
+    }
+
+    /**
+     * Creates a scheduler on an existing executor, which {@link #close()} leaves running.
+     *
+     * @param executor the executor the transitions run on
+     */
+    public TurnScheduler(ScheduledExecutorService executor) {
+        this(executor, false);
+    }
+
+    private TurnScheduler(ScheduledExecutorService executor, boolean ownsExecutor) {
+        this.executor = executor;
+        this.ownsExecutor = ownsExecutor;
+    }
+
+    private static ScheduledExecutorService newExecutor(int threads) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("threads must be positive: " + threads);
+        }
+        AtomicInteger count = new AtomicInteger();
+        ThreadFactory factory = task -> {
+            Thread thread = new Thread(task, "turn-scheduler-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(threads, factory);
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
+
+    /**
+     * Hosts a game; call {@link ScheduledTable#start()} to begin playing.
+     *
+     * @param game     the game to drive
+     * @param pacing   the artificial delays
+     * @param listener receives the table's transitions
+     * @return the table
+     */
+    public ScheduledTable host(Game game, TablePacing pacing, TableListener listener) {
+        return new ScheduledTable(game, pacing, listener, executor,
+                RandomSource.newGenerator(), GameSimulator.DEFAULT_MAX_TURNS);
+    }
+
+    /**
+     * Shuts the executor down if this scheduler created it.
+     */
+    @Override
+    public void close() {
+        if (ownsExecutor) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Waits for the scheduler's own executor to terminate after {@link #close()}.
+     *
+     * @param timeout how long to wait
+     * @param unit    the unit of the timeout
+     * @return {@code true} if the executor terminated
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return executor.awaitTermination(timeout, unit);
+    }
+}
@@ -0,0 +1,306 @@
+package cincuentazo.model.log;
+
+import java.io.PrintStream;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Asynchronous logger for the game's hot paths.
+ * A call below the current level returns after one field read. Otherwise the
+ * template and its arguments are stored, unformatted, in a bounded lock-free
+ * ring buffer; a background daemon thread drains it, formats the {@code {}}
+ * placeholders and prints the lines. Callers never take the {@link PrintStream}
+ * lock or build a string, and when the buffer is full the message is dropped
+ * and counted instead of blocking the game. An idle drainer is parked until the
+ * next message arrives.
+ * <p>
+ * The initial level of the default logger comes from the {@code cincuentazo.log}
+ * system property (for example {@code -Dcincuentazo.log=INFO}) and defaults to
+ * {@link LogLevel#OFF}, so simulations, tournaments and tests print nothing;
+ * the desktop application turns it on (see {@link #enableByDefault(LogLevel)}).
+ */
+public final class GameLogger {
+
+    private static final int DEFAULT_CAPACITY = 1 << 14;
+
+    private static final GameLogger DEFAULT = new GameLogger(DEFAULT_CAPACITY, System.out, initialLevel());
+
+    /**
+     * A preallocated buffer slot (Vyukov bounded queue): {@code sequence} tells
+     * whether it is free for position {@code p} ({@code == p}) or holds the
+     * message of position {@code p} ({@code == p + 1}).
+     */
+    private static final class Slot {
+        private volatile long sequence;
+        private LogLevel level;
+        private String template;
+        private Object arg1;
+        private Object arg2;
+        private Object arg3;
+    }
+
+    private final Slot[] slots;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong(); // next position to write
+    private volatile long head;                       // next position to read; written by the drainer only
+    private final LongAdder dropped = new LongAdder();
+    private final StringBuilder line = new StringBuilder(128); // drainer only
+    private volatile int threshold;
+    private volatile PrintStream sink;
+    private volatile Thread drainer;
+    private volatile boolean drainerParked; // set by the drainer while it waits for messages
+
+    /**
+     * Creates a logger.
+     *
+     * @param capacity ring buffer size, rounded up to a power of two
+     * @param sink     where the lines are printed
+     * @param level    the lowest level logged
+     */
+    public GameLogger(int capacity, PrintStream sink, LogLevel level) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.slots = new Slot[size];
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            slots[i] = new Slot();
+            slots[i].sequence = i;
+        }
+        this.sink = sink;
+        this.threshold = level.ordinal();
+    }
+
+    private static LogLevel initialLevel() {
+        String property = System.getProperty("cincuentazo.log");
+        if (property == null) {
+            return LogLevel.OFF;
+        }
+        try {
+            return LogLevel.valueOf(property.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return LogLevel.OFF;
+        }
+    }
+
+    /**
+     * Sets the level of the default logger, unless the {@code cincuentazo.log}
+     * system property chose one. Interactive entry points call this to log by default.
+     *
+     * @param level the level to use when none was configured
+     */
+    public static void enableByDefault(LogLevel level) {
+        if (System.getProperty("cincuentazo.log") == null) {
+            DEFAULT.setLevel(level);
+        }
+    }
+
+    /**
+     * Returns the logger shared by the game engine.
+     */
+    public static GameLogger getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Sets the lowest level logged; {@link LogLevel#OFF} turns logging off completely.
+     */
+    public void setLevel(LogLevel level) {
+        threshold = level.ordinal();
+    }
+
+    /**
+     * Returns the lowest level logged.
+     */
+    public LogLevel getLevel() {
+        return LogLevel.values()[threshold];
+    }
+
+    /**
+     * Sets where the lines are printed.
+     */
+    public void setSink(PrintStream sink) {
+        this.sink = sink;
+    }
+
+    /**
+     * Returns whether messages of the given level are logged.
+     */
+    public boolean isEnabled(LogLevel level) {
+        return level.ordinal() >= threshold && level != LogLevel.OFF;
+    }
+
+    /**
+     * Logs a message without arguments.
+     */
+    public void log(LogLevel level, String message) {
+        if (isEnabled(level)) {
+            enqueue(level, message, null, null, null);
+        }
+    }
+
+    /**
+     * Logs a message with one {@code {}} placeholder.
+     */
+    public void log(LogLevel level, String template, Object arg1) {
+        if (isEnabled(level)) {
+            enqueue(level, template, arg1, null, null);
+        }
+    }
+
+    /**
+     * Logs a message with two {@code {}} placeholders.
+     */
+    public void log(LogLevel level, String template, Object arg1, Object arg2) {
+        if (isEnabled(level)) {
+            enqueue(level, template, arg1, arg2, null);
+        }
+    }
+
+    /**
+     * Logs a message with three {@code {}} placeholders.
+     */
+    public void log(LogLevel level, String template, Object arg1, Object arg2, Object arg3) {
+        if (isEnabled(level)) {
+            enqueue(level, template, arg1, arg2, arg3);
+        }
+    }
+
+    private void enqueue(LogLevel level, String template, Object arg1, Object arg2, Object arg3) {
+        long position = tail.get();
+        Slot slot;
+        while (true) {
+            slot = slots[(int) position & mask];
+            long difference = slot.sequence - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    break;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                dropped.increment(); // full: never block the game
+                return;
+            } else {
+                position = tail.get();
+            }
+        }
+        slot.level = level;
+        slot.template = template;
+        slot.arg1 = arg1;
+        slot.arg2 = arg2;
+        slot.arg3 = arg3;
+        slot.sequence = position + 1; // publishes the fields to the drainer
+        Thread thread = drainer;
+        if (thread == null) {
+            startDrainer();
+        } else if (drainerParked) {
+            LockSupport.unpark(thread); // the buffer was empty: wake the drainer
+        }
+    }
+
+    private synchronized void startDrainer() {
+        if (drainer != null) {
+            return;
+        }
+        Thread thread = new Thread(this::drainLoop, "game-logger");
+        thread.setDaemon(true);
+        thread.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::drainAvailable, "game-logger-flush"));
+        drainer = thread;
+    }
+
+    private void drainLoop() {
+        while (!Thread.currentThread().isInterrupted()) {
+            if (drainAvailable() == 0) {
+                // Announce the park, then look again: a message published before the
+                // flag was visible is seen here, and one published after it unparks us
+                drainerParked = true;
+                if (!hasMessage()) {
+                    LockSupport.park(this);
+                }
+                drainerParked = false;
+            }
+        }
+    }
+
+    private boolean hasMessage() {
+        long position = head;
+        return slots[(int) position & mask].sequence == position + 1;
+    }
+
+    /**
+     * Prints every message in the buffer.
+     *
+     * @return the number of messages printed
+     */
+    private synchronized int drainAvailable() {
+        PrintStream out = sink;
+        int count = 0;
+        long position = head;
+        while (true) {
+            Slot slot = slots[(int) position & mask];
+            if (slot.sequence != position + 1) {
+                break;
+            }
+            format(slot);
+            slot.template = null;
+            slot.arg1 = slot.arg2 = slot.arg3 = null;
+            slot.sequence = position + slots.length; // free for the next lap
+            position++;
+            out.println(line);
+            count++;
+        }
+        long lost = dropped.sumThenReset();
+        if (lost > 0) {
+            out.println("WARN " + lost + " log messages dropped (buffer full)");
+        }
+        if (count > 0) {
+            out.flush();
+        }
+        head = position; // only now is everything up to position printed
+        return count;
+    }
+
+    private void format(Slot slot) {
+        line.setLength(0);
+        if (slot.level != LogLevel.INFO) {
+            line.append(slot.level).append(' ');
+        }
+        String template = slot.template;
+        Object[] args = {slot.arg1, slot.arg2, slot.arg3};
+        int next = 0;
+        int from = 0;
+        int at;
+        while (next < args.length && (at = template.indexOf("{}", from)) >= 0) {
+            line.append(template, from, at).append(args[next++]);
+            from = at + 2;
+        }
+        line.append(template, from, template.length());
+    }
+
+    /**
+     * Waits until every message logged so far has been printed.
+     *
+     * @param timeoutMillis the longest time to wait
+     * @return {@code true} if the buffer was drained in time
+     */
+    public boolean flush(long timeoutMillis) {
+        long target = tail.get();
+        long deadline = System.nanoTime() + timeoutMillis * 1_000_000;
+        while (head < target) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            drainAvailable();
+            Thread.onSpinWait();
+        }
+        return true;
+    }
+
+    /**
+     * Returns how many messages were dropped because the buffer was full (since the last report).
+     */
+    public long getDropped() {
+        return dropped.sum();
+    }
+}
@@ -0,0 +1,19 @@
+package cincuentazo.model.log;
+
+/**
+ * Severity of a log message, from the most verbose to {@link #OFF}.
+ */
+public enum LogLevel {
+    /** Fine-grained tracing. */
+    TRACE,
+    /** Diagnostic details. */
+    DEBUG,
+    /** Game progress: cards played, eliminations, recycling. */
+    INFO,
+    /** Something unexpected that the game recovered from. */
+    WARN,
+    /** A failure. */
+    ERROR,
+    /** Logging disabled. */
+    OFF
+}
@@ -0,0 +1,34 @@
+package cincuentazo.model.player;
+
+import cincuentazo.model.card.Card;
+import cincuentazo.model.card.PlayTable;
+
+import java.util.List;
+
+/**
+ * The original machine behaviour: play the first card in the hand, in the
+ * order the cards were received, that keeps the sum at or below 50.
+ * The game recognises this strategy and runs it through
+ * {@link Player#tryPlayCard(int)} directly.
+ */
+public final class FirstCardStrategy implements MachineStrategy {
+
+    /**
+     * The shared, stateless instance.
+     */
+    public static final FirstCardStrategy INSTANCE = new FirstCardStrategy();
+
+    private FirstCardStrategy() {
+    }
+
+    @Override
+    public Card chooseCard(TurnView view) {
+        List<Card> hand = view.getHand();
+        for (int i = 0; i < hand.size(); i++) {
+            if (PlayTable.canPlay(view.getTableSum(), hand.get(i))) {
+                return hand.get(i);
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,131 @@
+package cincuentazo.model.player;
+
+import cincuentazo.model.card.Card;
+import cincuentazo.model.card.CardSet;
+import cincuentazo.model.card.Zobrist;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.RandomAccess;
+
+/**
+ * List of the cards a player holds, mirrored in a {@link CardSet} bitboard.
+ * The list keeps the order the cards were received in (which the machine
+ * strategy relies on), while every add and remove also updates the bits, so
+ * the hand can be tested against playability masks in constant time.
+ * Only canonical cards get a bit; any other card instance is counted as
+ * irregular, and callers fall back to asking such cards for their effect.
+ * The bits are also kept as a {@link Zobrist} hash with the keys of the hand's seat.
+ */
+class Hand extends AbstractList<Card> implements RandomAccess {
+
+    private final ArrayList<Card> cards = new ArrayList<>(Player.HAND_SIZE);
+    private long bits;
+    private int irregular; // cards that are not canonical instances
+    private int seat;
+    private long hash;
+
+    @Override
+    public Card get(int index) {
+        return cards.get(index);
+    }
+
+    @Override
+    public int size() {
+        return cards.size();
+    }
+
+    @Override
+    public void add(int index, Card card) {
+        cards.add(index, card);
+        track(card);
+        modCount++;
+    }
+
+    @Override
+    public Card set(int index, Card card) {
+        Card old = cards.set(index, card);
+        untrack(old);
+        track(card);
+        return old;
+    }
+
+    @Override
+    public Card remove(int index) {
+        Card old = cards.remove(index);
+        untrack(old);
+        modCount++;
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        cards.clear();
+        bits = 0;
+        hash = 0;
+        irregular = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns the bits of the standard cards in the hand.
+     */
+    long bits() {
+        return bits;
+    }
+
+    /**
+     * Returns the Zobrist hash of the standard cards in the hand.
+     */
+    long hash() {
+        return hash;
+    }
+
+    /**
+     * Switches to the Zobrist keys of another seat.
+     */
+    void setSeat(int seat) {
+        this.seat = seat;
+        this.hash = Zobrist.handHash(seat, bits);
+    }
+
+    /**
+     * Returns whether every card is canonical, so {@link #bits()} describes the whole hand.
+     */
+    boolean isCanonical() {
+        return irregular == 0;
+    }
+
+    private void track(Card card) {
+        if (card == null) {
+            return;
+        }
+        if (card.isCanonical()) {
+            long bit = CardSet.bit(card);
+            if ((bits & bit) == 0) {
+                bits |= bit;
+                hash ^= Zobrist.hand(seat, card.getOrdinal());
+            }
+        } else {
+            irregular++;
+        }
+    }
+
+    private void untrack(Card card) {
+        if (card == null) {
+            return;
+        }
+        if (!card.isCanonical()) {
+            irregular--;
+            return;
+        }
+        // Keep the bit while another copy of the same card is still held
+        for (Card other : cards) {
+            if (other == card) {
+                return;
+            }
+        }
+        bits &= ~CardSet.bit(card);
+        hash ^= Zobrist.hand(seat, card.getOrdinal());
+    }
+}
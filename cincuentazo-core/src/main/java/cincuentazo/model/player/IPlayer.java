@@ -23,18 +23,35 @@ public interface IPlayer {
     List<Card> getHand();
 
     /**
-     * Plays a card according to the game rules.
+     * Plays a card according to the game rules, eliminating the player if none fits.
+     * A player seated in a {@link cincuentazo.model.game.Game} must play through
+     * the game, which also returns the hand to the deck and frees the seat.
      * @param currentSum current sum of the table
      * @return the card that was played
      * @throws InvalidMoveException if no valid card can be played
      */
     Card playCard(int currentSum) throws InvalidMoveException;
 
+    /**
+     * Removes and returns the card this player chooses to play, without throwing.
+     * Unlike {@link #playCard(int)}, the player is not eliminated when no card fits.
+     * @param currentSum current sum of the table
+     * @return the card that was played, or {@code null} if no valid card can be played
+     */
+    Card tryPlayCard(int currentSum);
+
     /**
      * Draws a new card from the deck.
      */
     void drawCard(IDeck deck) throws EmptyDeckException;
 
+    /**
+     * Draws a new card from the deck without throwing.
+     * @return {@code true} if a card was added to the hand; {@code false} if the
+     *         hand is full or the deck is empty
+     */
+    boolean tryDrawCard(IDeck deck);
+
     /**
      * Checks if the player has been eliminated.
      */
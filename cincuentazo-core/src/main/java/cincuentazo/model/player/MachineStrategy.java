@@ -0,0 +1,22 @@
+package cincuentazo.model.player;
+
+import cincuentazo.model.card.Card;
+
+/**
+ * Decides which card a machine player plays.
+ * The game asks the strategy of the seat whose turn it is, on the thread
+ * applying the game's moves, and plays the returned card. A {@code null},
+ * unknown or unplayable answer falls back to {@link FirstCardStrategy}.
+ * Strategies are created per seat (see {@code StrategyRegistry}), so they may keep state.
+ */
+@FunctionalInterface
+public interface MachineStrategy {
+
+    /**
+     * Chooses the card to play.
+     *
+     * @param view what the player can see of the game
+     * @return a playable card from {@link TurnView#getHand()}, or {@code null} if none can be played
+     */
+    Card chooseCard(TurnView view);
+}
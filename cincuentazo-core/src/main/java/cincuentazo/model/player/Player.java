@@ -0,0 +1,255 @@
+package cincuentazo.model.player;
+
+import cincuentazo.model.exceptions.EmptyDeckException;
+import cincuentazo.model.exceptions.InvalidMoveException;
+import cincuentazo.model.card.Card;
+import cincuentazo.model.card.CardSet;
+import cincuentazo.model.card.PlayTable;
+import cincuentazo.model.card.Zobrist;
+import cincuentazo.model.deck.IDeck;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Represents a player (human or machine) in the "Cincuentazo" game.
+ * A player holds a hand of cards, can draw new cards from the deck, and attempts
+ * to play a valid card based on the current accumulated sum of the game.
+ * If a player cannot make a valid move, they are eliminated from the round.
+ */
+public class Player extends PlayerAdapter {
+
+    /**
+     * Number of cards a player holds.
+     */
+    public static final int HAND_SIZE = 4;
+
+    private final String name;
+    private final boolean machine;
+    private final Hand hand;
+    private boolean eliminated;
+
+    /**
+     * Creates a new player.
+     *
+     * @param name    the player's display name
+     * @param machine {@code true} if the player is a CPU-controlled player; {@code false} otherwise
+     */
+
+    public Player(String name, boolean machine) {
+        this.name = name;
+        this.machine = machine;
+        this.hand = new Hand();
+        this.eliminated = false;
+    }
+
+    /**
+     * Returns the name of the player.
+     *
+     * @return the player's name
+     */
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the list of cards in the player's hand.
+     *
+     * @return the player's hand
+     */
+    @Override
+    public List<Card> getHand() {
+        return hand;
+    }
+
+    /**
+     * Returns the hand as bits, one per canonical card (see {@link CardSet}).
+     * Kept up to date on every change to the list returned by {@link #getHand()}.
+     *
+     * @return the bits of the standard cards in the hand
+     */
+    public long getHandBits() {
+        return hand.bits();
+    }
+
+    /**
+     * Returns whether every card in the hand is a canonical card, in which case
+     * {@link #getHandBits()} describes the whole hand.
+     *
+     * @return {@code true} if the hand bits are complete
+     */
+    public boolean isHandCanonical() {
+        return hand.isCanonical();
+    }
+
+    /**
+     * Returns the {@link Zobrist} hash of the hand, using the keys of the player's seat.
+     * Kept up to date in O(1) on every draw, play and elimination.
+     *
+     * @return the XOR of the keys of the standard cards in the hand
+     */
+    public long getZobristHash() {
+        return hand.hash();
+    }
+
+    /**
+     * Sets the seat whose {@link Zobrist} keys the hand hash uses; the game calls it when seating the player.
+     *
+     * @param seat the seat, below {@link Zobrist#MAX_SEATS}
+     * @throws IllegalArgumentException if the seat has no keys
+     */
+    public void setSeat(int seat) {
+        if (seat < 0 || seat >= Zobrist.MAX_SEATS) {
+            throw new IllegalArgumentException("Seat out of range: " + seat);
+        }
+        hand.setSeat(seat);
+    }
+
+    /**
+     * Returns a snapshot of the hand as a {@link CardSet}.
+     *
+     * @return a new set with the cards in the hand
+     */
+    public CardSet getHandSet() {
+        return new CardSet(hand.bits());
+    }
+
+    /**
+     * Returns whether the player is CPU-controlled.
+     *
+     * @return {@code true} if the player is a machine; {@code false} otherwise
+     */
+    @Override
+    public boolean isMachine() {
+        return machine;
+    }
+
+    /**
+     * Returns whether the player has been eliminated from the game.
+     *
+     * @return {@code true} if eliminated; {@code false} otherwise
+     */
+    @Override
+    public boolean isEliminated() {
+        return eliminated;
+    }
+
+    /**
+     * Attempts to play a valid card from the player's hand based on the current sum.
+     * A valid card is one that does not cause the sum to exceed 50. The first valid
+     * card found is played and removed from the hand.
+     * If no valid card is found, the player is eliminated, their hand is cleared and an
+     * {@link InvalidMoveException} is thrown.
+     * <p>
+     * This is for a player on their own. Do not call it on a player seated in a
+     * {@link cincuentazo.model.game.Game}: the cleared cards would never reach
+     * the deck and the game would still count the seat as active. Play through
+     * the game instead ({@code tryHumanPlay}, {@code playMachineTurn}), which
+     * eliminates players with {@code eliminatePlayer}.
+     *
+     * @param currentSum the current accumulated sum in the game
+     * @return the card played
+     * @throws InvalidMoveException if the player has no valid card to play
+     */
+    @Override
+    public Card playCard(int currentSum) throws InvalidMoveException {
+        Card card = tryPlayCard(currentSum);
+        if (card != null) {
+            return card;
+        }
+
+        // If not returned yet, the player is out: drop the hand and throw exception
+        eliminate();
+        throw new InvalidMoveException(name + " has no valid card to play and is eliminated.");
+    }
+
+    /**
+     * Plays the first valid card in the hand, like {@link #playCard(int)}, but
+     * returns {@code null} instead of eliminating the player when none fits.
+     *
+     * @param currentSum the current accumulated sum in the game
+     * @return the card played, or {@code null} if no card can be played
+     */
+    @Override
+    public Card tryPlayCard(int currentSum) {
+        // One array read and one AND tell whether any card fits at all
+        if (hand.isCanonical() && (hand.bits() & PlayTable.playableCards(currentSum)) == 0) {
+            return null;
+        }
+        for (int i = 0; i < hand.size(); i++) {
+            if (PlayTable.canPlay(currentSum, hand.get(i))) {
+                return hand.remove(i);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Draws a card from the deck if the player has fewer than 4 cards.
+     *
+     * @param deck the deck from which to draw
+     * @throws EmptyDeckException if the deck has no remaining cards
+     */
+    @Override
+    public void drawCard(IDeck deck) throws EmptyDeckException {
+        if (hand.size() < HAND_SIZE) {
+            hand.add(deck.drawCard());
+        }
+    }
+
+    /**
+     * Draws a card from the deck if the player has fewer than 4 cards, without throwing.
+     *
+     * @param deck the deck from which to draw
+     * @return {@code true} if a card was drawn; {@code false} if the hand is full or the deck is empty
+     */
+    @Override
+    public boolean tryDrawCard(IDeck deck) {
+        if (hand.size() >= HAND_SIZE) {
+            return false;
+        }
+        Card card = deck.pollCard();
+        if (card == null) {
+            return false;
+        }
+        hand.add(card);
+        return true;
+    }
+
+    /**
+     * Eliminates the player and removes all cards from their hand.
+     *
+     * @return a list containing all cards removed from the player's hand
+     */
+    @Override
+    public List<Card> eliminate() {
+        this.eliminated = true;
+        List<Card> remaining = new ArrayList<>(hand);
+        hand.clear();
+        return remaining;
+    }
+
+    /**
+     * Deals the initial 4 cards to the player at the start of the game.
+     *
+     * @param deck the deck from which to deal cards
+     * @throws EmptyDeckException if the deck runs out of cards
+     */
+    public void dealInitialCards(IDeck deck) throws EmptyDeckException {
+        while (hand.size() < HAND_SIZE) {
+            hand.add(deck.drawCard());
+        }
+    }
+
+    /**
+     * Returns a string representation of the player, showing the name,
+     * whether they are human or CPU, and their current hand.
+     *
+     * @return a formatted string representing the player
+     */
+    @Override
+    public String toString() {
+        return name + (machine ? " (CPU)" : " (Human)") + " - Cards: " + hand;
+    }
+}
\ No newline at end of file
@@ -29,11 +29,21 @@ public abstract class PlayerAdapter implements IPlayer {
         throw new InvalidMoveException("No implementation provided for playCard()");
     }
 
+    @Override
+    public Card tryPlayCard(int currentSum) {
+        return null;
+    }
+
     @Override
     public void drawCard(IDeck deck) throws EmptyDeckException {
         // Default: do nothing
     }
 
+    @Override
+    public boolean tryDrawCard(IDeck deck) {
+        return false;
+    }
+
     @Override
     public boolean isEliminated() {
         return false;
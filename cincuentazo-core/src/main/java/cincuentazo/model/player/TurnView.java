@@ -0,0 +1,100 @@
+package cincuentazo.model.player;
+
+import cincuentazo.model.card.Card;
+
+import java.util.List;
+
+/**
+ * Read-only view of a game from the seat whose turn it is.
+ * It shows what that player may know: their own hand, the table, and the
+ * public history (cards played since the last recycle, hand and deck sizes,
+ * who is still in). Other hands and the deck order are hidden.
+ * <p>
+ * A view reads the live game and is only valid during the
+ * {@link MachineStrategy#chooseCard(TurnView)} call it was passed to.
+ */
+public interface TurnView {
+
+    /**
+     * Returns the seat of the player about to move.
+     */
+    int getSeat();
+
+    /**
+     * Returns the number of seats at the table, eliminated ones included.
+     */
+    int getSeatCount();
+
+    /**
+     * Returns the player's hand, in the order the cards were received; it cannot be modified.
+     */
+    List<Card> getHand();
+
+    /**
+     * Returns the hand as {@link cincuentazo.model.card.CardSet} bits.
+     */
+    long getHandBits();
+
+    /**
+     * Returns whether every card in the hand is canonical, so {@link #getHandBits()} describes it fully.
+     */
+    boolean isHandCanonical();
+
+    /**
+     * Returns the current table sum.
+     */
+    int getTableSum();
+
+    /**
+     * Returns the card on top of the table.
+     */
+    Card getTopCard();
+
+    /**
+     * Returns the bits of the cards played to the table since the last recycle, top card included.
+     */
+    long getTableBits();
+
+    /**
+     * Returns the number of cards a seat holds; 0 for an eliminated seat.
+     *
+     * @param seat the seat
+     */
+    int getHandSize(int seat);
+
+    /**
+     * Returns the bit mask of the seats still in the game.
+     */
+    long getActiveSeats();
+
+    /**
+     * Returns the number of cards left in the deck.
+     */
+    int getDeckSize();
+
+    /**
+     * Returns the number of times the turn has passed.
+     */
+    long getTurn();
+
+    /**
+     * Returns how many cards of a rank this player cannot see: those in the
+     * deck and in the other hands.
+     *
+     * @param rank 0 (Ace) to 12 (King)
+     */
+    int getUnseenCount(int rank);
+
+    /**
+     * Returns how many cards this player cannot see.
+     */
+    int getUnseenTotal();
+
+    /**
+     * Returns the chance that the next card this player draws could be played
+     * at the given sum, counting every unseen card as equally likely.
+     *
+     * @param sum the table sum
+     */
+    double getDrawPlayableChance(int sum);
+}
@@ -0,0 +1,77 @@
+package cincuentazo.model.random;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Factory for the random generators used by decks and games.
+ * Unseeded generators are split from a per-thread root, so parallel games never
+ * share (or contend on) a random source. Seeded generators are derived from a
+ * seed and an index, so game number {@code i} of a run replays bit-for-bit no
+ * matter which thread plays it.
+ */
+public final class RandomSource {
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private static final ThreadLocal<SplittableRandom> THREAD_ROOT =
+            ThreadLocal.withInitial(SplittableRandom::new);
+
+    private RandomSource() {
+    }
+
+    /**
+     * Returns a new unseeded generator, split from the calling thread's stream.
+     * The generator is not thread-safe and should be owned by a single game or deck.
+     *
+     * @return an independent generator
+     */
+    public static RandomGenerator newGenerator() {
+        return THREAD_ROOT.get().split();
+    }
+
+    /**
+     * Returns the generator for one element of a seeded run.
+     * The same seed and index always give the same sequence.
+     *
+     * @param seed  the seed of the run
+     * @param index the index of the game (or table) inside the run
+     * @return an independent, reproducible generator
+     */
+    public static RandomGenerator forIndex(long seed, long index) {
+        return new SplittableRandom(mix64(seed + GOLDEN_GAMMA * (index + 1)));
+    }
+
+    /**
+     * Returns a fresh seed, for runs that should be random but still replayable.
+     *
+     * @return a random seed
+     */
+    public static long randomSeed() {
+        return THREAD_ROOT.get().nextLong();
+    }
+
+    /**
+     * Randomly permutes a list in place (Fisher–Yates) with the given generator.
+     *
+     * @param list   the list to shuffle; should support fast random access
+     * @param random the generator to use
+     * @param <T>    the element type
+     */
+    public static <T> void shuffle(List<T> list, RandomGenerator random) {
+        for (int i = list.size() - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            list.set(i, list.set(j, list.get(i)));
+        }
+    }
+
+    /**
+     * Finalizer of the SplitMix64 generator: spreads nearby seeds over the whole range.
+     */
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
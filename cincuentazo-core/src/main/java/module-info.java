@@ -0,0 +1,12 @@
+module cincuentazo.core {
+    // Game model only: no JavaFX, so headless engines can use it on their own
+
+    exports cincuentazo.model.ai;
+    exports cincuentazo.model.card;
+    exports cincuentazo.model.deck;
+    exports cincuentazo.model.game;
+    exports cincuentazo.model.log;
+    exports cincuentazo.model.player;
+    exports cincuentazo.model.exceptions;
+    exports cincuentazo.model.random;
+}
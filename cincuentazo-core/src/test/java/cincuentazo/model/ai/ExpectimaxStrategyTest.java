@@ -0,0 +1,194 @@
+package cincuentazo.model.ai;
+
+import cincuentazo.model.card.Card;
+import cincuentazo.model.card.CardSet;
+import cincuentazo.model.game.Game;
+import cincuentazo.model.game.MoveResult;
+import cincuentazo.model.player.Player;
+import cincuentazo.model.player.TurnView;
+import cincuentazo.model.random.RandomSource;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExpectimaxStrategyTest {
+
+    /**
+     * Heads-up position with an empty deck, so the next play recycles the table under the top card.
+     */
+    private record EmptyDeckView(long hand, long opponentHand, int sum, Card top) implements TurnView {
+
+        @Override
+        public int getSeat() {
+            return 0;
+        }
+
+        @Override
+        public int getSeatCount() {
+            return 2;
+        }
+
+        @Override
+        public List<Card> getHand() {
+            List<Card> cards = new ArrayList<>();
+            new CardSet(hand).forEach(cards::add);
+            return List.copyOf(cards);
+        }
+
+        @Override
+        public long getHandBits() {
+            return hand;
+        }
+
+        @Override
+        public boolean isHandCanonical() {
+            return true;
+        }
+
+        @Override
+        public int getTableSum() {
+            return sum;
+        }
+
+        @Override
+        public Card getTopCard() {
+            return top;
+        }
+
+        @Override
+        public long getTableBits() {
+            return CardSet.ALL & ~hand & ~opponentHand;
+        }
+
+        @Override
+        public int getHandSize(int seat) {
+            return Long.bitCount(seat == 0 ? hand : opponentHand);
+        }
+
+        @Override
+        public long getActiveSeats() {
+            return 0b11;
+        }
+
+        @Override
+        public int getDeckSize() {
+            return 0;
+        }
+
+        @Override
+        public long getTurn() {
+            return 0;
+        }
+
+        @Override
+        public int getUnseenCount(int rank) {
+            return Long.bitCount(opponentHand & CardSet.spreadRanks(1L << rank));
+        }
+
+        @Override
+        public int getUnseenTotal() {
+            return Long.bitCount(opponentHand);
+        }
+
+        @Override
+        public double getDrawPlayableChance(int sum) {
+            return 0;
+        }
+    }
+
+    @Test
+    void chooseCard_returnsAPlayableCardFromTheHand() throws Exception {
+        ExpectimaxStrategy expectimax = new ExpectimaxStrategy();
+        for (int g = 0; g < 30; g++) {
+            Game game = new Game(2 + g % 4, false, RandomSource.forIndex(13L, g));
+            Player player = game.getCurrentPlayer();
+
+            ExpectimaxStrategy.Result result = expectimax.search(game.getTurnView(player));
+
+            assertNotNull(result.card(), "The opening hand always has a playable card");
+            assertTrue(player.getHand().contains(result.card()), "The card must come from the player's hand");
+            assertTrue(game.isValidMove(result.card()));
+            assertTrue(Double.isNaN(result.value()) || (result.value() >= 0 && result.value() <= 1),
+                    "The value is a chance of winning: " + result.value());
+        }
+    }
+
+    @Test
+    void search_isDeterministicAndUsesTheTable() throws Exception {
+        Game game = new Game(3, false, RandomSource.forIndex(14L, 0));
+        Player player = game.getCurrentPlayer();
+        ExpectimaxStrategy cold = new ExpectimaxStrategy(4, 1 << 12);
+        ExpectimaxStrategy other = new ExpectimaxStrategy(4, 1 << 12);
+
+        ExpectimaxStrategy.Result first = cold.search(game.getTurnView(player));
+        ExpectimaxStrategy.Result second = other.search(game.getTurnView(player));
+        ExpectimaxStrategy.Result again = cold.search(game.getTurnView(player));
+
+        assertEquals(first, second, "Two fresh searches of the same position agree");
+        assertEquals(first.card(), again.card());
+        assertTrue(first.nodes() > 0);
+        assertTrue(again.nodes() < first.nodes(), "A warm table should save work");
+        assertTrue(cold.getTableHits() > 0, "Transpositions should be found");
+    }
+
+    @Test
+    void search_ofPositionsDifferingOnlyInTheTopCard_doesNotShareTheirEntries() {
+        long hand = CardSet.bit(Card.of("2", "Spades")) | CardSet.bit(Card.of("5", "Spades"))
+                | CardSet.bit(Card.of("8", "Spades"));
+        long opponent = CardSet.bit(Card.of("3", "Hearts")) | CardSet.bit(Card.of("9", "Hearts"))
+                | CardSet.bit(Card.of("J", "Hearts"));
+        EmptyDeckView kingOnTop = new EmptyDeckView(hand, opponent, 30, Card.of("K", "Clubs"));
+        EmptyDeckView tenOnTop = new EmptyDeckView(hand, opponent, 30, Card.of("10", "Diamonds"));
+        ExpectimaxStrategy warm = new ExpectimaxStrategy(6, 1 << 12);
+
+        warm.search(kingOnTop);
+        ExpectimaxStrategy.Result afterOther = warm.search(tenOnTop);
+        ExpectimaxStrategy.Result cold = new ExpectimaxStrategy(6, 1 << 12).search(tenOnTop);
+
+        assertNotNull(cold.card(), "The position has several playable ranks");
+        assertEquals(cold.card(), afterOther.card(), "A table warmed on another top card must not change the choice");
+        assertEquals(cold.value(), afterOther.value(), 1e-12,
+                "A table warmed on another top card must not change the value");
+    }
+
+    @Test
+    void search_withNoPlayableCard_returnsNull() throws Exception {
+        Game game = new Game(2, false, RandomSource.forIndex(8L, 0));
+        Player player = game.getCurrentPlayer();
+        game.addTableSum(60 - game.getTableSum());
+        player.getHand().removeIf(card -> card.getRank() >= 8);
+
+        assertNull(new ExpectimaxStrategy().chooseCard(game.getTurnView(player)));
+    }
+
+    @Test
+    void expectimax_beatsTheFirstCardStrategy() throws Exception {
+        int games = 80;
+        int wins = 0;
+        for (int g = 0; g < games; g++) {
+            Game game = new Game(2, false, RandomSource.forIndex(15L, g));
+            Player searcher = game.getPlayers().get(g % 2);
+            game.setStrategy(g % 2, new ExpectimaxStrategy(3, 1 << 14));
+            for (int turn = 0; turn < 2_000 && !game.isGameOver(); turn++) {
+                Player current = game.getCurrentPlayer();
+                if (current != null) {
+                    assertNotEquals(MoveResult.INVALID_MOVE, game.playMachineTurn(current));
+                }
+                game.advanceTurn();
+            }
+            if (game.getWinner() == searcher) {
+                wins++;
+            }
+        }
+        assertTrue(wins > games / 2, "Expectimax should win most heads-up games, won " + wins + " of " + games);
+    }
+
+    @Test
+    void constructor_rejectsBadSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new ExpectimaxStrategy(0, 16));
+        assertThrows(IllegalArgumentException.class, () -> new ExpectimaxStrategy(3, 0));
+    }
+}
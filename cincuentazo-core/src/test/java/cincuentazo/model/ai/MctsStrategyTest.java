@@ -0,0 +1,120 @@
+package cincuentazo.model.ai;
+
+import cincuentazo.model.card.Card;
+import cincuentazo.model.game.Game;
+import cincuentazo.model.game.MoveResult;
+import cincuentazo.model.player.Player;
+import cincuentazo.model.player.TurnView;
+import cincuentazo.model.random.RandomSource;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MctsStrategyTest {
+
+    @Test
+    void chooseCard_returnsAPlayableCardFromTheHand() throws Exception {
+        MctsStrategy mcts = new MctsStrategy(Duration.ofSeconds(5), 400, new ForkJoinPool(2), 1L);
+        for (int g = 0; g < 20; g++) {
+            Game game = new Game(3, false, RandomSource.forIndex(3L, g));
+            Player player = game.getCurrentPlayer();
+
+            Card card = mcts.chooseCard(game.getTurnView(player));
+
+            assertNotNull(card, "The opening hand always has a playable card");
+            assertTrue(player.getHand().contains(card), "The card must come from the player's hand");
+            assertTrue(game.isValidMove(card), "The card must keep the sum at or below 50");
+        }
+    }
+
+    @Test
+    void search_withIterationBudget_isReproducible() throws Exception {
+        Game game = new Game(3, false, RandomSource.forIndex(5L, 0));
+        Player player = game.getCurrentPlayer();
+
+        MctsStrategy.Result first = new MctsStrategy(Duration.ofMinutes(1), 500, new ForkJoinPool(3), 9L)
+                .search(game.getTurnView(player));
+        MctsStrategy.Result second = new MctsStrategy(Duration.ofMinutes(1), 500, new ForkJoinPool(3), 9L)
+                .search(game.getTurnView(player));
+
+        assertTrue(first.iterations() <= 500, "The iteration budget is shared by all workers");
+        assertEquals(first, second, "The same seed and iteration budget should give the same decision");
+    }
+
+    @Test
+    void search_stopsAtTheTimeBudget() throws Exception {
+        Game game = new Game(6, false, RandomSource.forIndex(6L, 0));
+        Player player = game.getCurrentPlayer();
+        MctsStrategy mcts = new MctsStrategy(Duration.ofMillis(20), Integer.MAX_VALUE, new ForkJoinPool(1), 2L);
+
+        long start = System.nanoTime();
+        MctsStrategy.Result result = mcts.search(game.getTurnView(player));
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertTrue(elapsedMillis < 1_000, "A 20 ms search took " + elapsedMillis + " ms");
+        assertTrue(result.iterations() > 0 || result.card() != null, "The search should still answer");
+    }
+
+    @Test
+    void search_fromAnotherPoolsWorker_doesNotRunThatPoolsTasks() throws Exception {
+        Game game = new Game(3, false, RandomSource.forIndex(5L, 0));
+        TurnView view = game.getTurnView(game.getCurrentPlayer());
+        MctsStrategy mcts = new MctsStrategy(Duration.ofMinutes(1), 2_000, new ForkJoinPool(2), 4L);
+        ForkJoinPool games = new ForkJoinPool(1);
+        AtomicBoolean searching = new AtomicBoolean();
+        AtomicBoolean ranDuringSearch = new AtomicBoolean();
+
+        MctsStrategy.Result result = games.submit(() -> {
+            ForkJoinTask<?> otherGame = ForkJoinTask.adapt(() -> ranDuringSearch.compareAndSet(false, searching.get())).fork();
+            searching.set(true);
+            MctsStrategy.Result r = mcts.search(view);
+            searching.set(false);
+            otherGame.join();
+            return r;
+        }).get(1, TimeUnit.MINUTES);
+
+        assertTrue(result.iterations() > 0, "The position needs a search");
+        assertFalse(ranDuringSearch.get(), "Waiting for the trees should not run the caller's pool's tasks");
+        games.shutdown();
+    }
+
+    @Test
+    void search_withNoPlayableCard_returnsNull() throws Exception {
+        Game game = new Game(2, false, RandomSource.forIndex(8L, 0));
+        Player player = game.getCurrentPlayer();
+        game.addTableSum(60 - game.getTableSum()); // nothing fits at 60 except cards that subtract
+        player.getHand().removeIf(card -> card.getRank() >= 9);
+        player.getHand().removeIf(card -> card.getRank() == 8); // the 9 adds nothing
+
+        assertNull(new MctsStrategy().chooseCard(game.getTurnView(player)), "A player without a playable card gets null");
+    }
+
+    @Test
+    void mcts_beatsTheFirstCardStrategy() throws Exception {
+        MctsStrategy mcts = new MctsStrategy(Duration.ofSeconds(5), 300, new ForkJoinPool(1), 4L);
+        int games = 60;
+        int wins = 0;
+        for (int g = 0; g < games; g++) {
+            Game game = new Game(2, false, RandomSource.forIndex(10L, g));
+            Player searcher = game.getPlayers().get(g % 2);
+            game.setStrategy(g % 2, mcts);
+            for (int turn = 0; turn < 2_000 && !game.isGameOver(); turn++) {
+                Player current = game.getCurrentPlayer();
+                if (current != null) {
+                    assertNotEquals(MoveResult.INVALID_MOVE, game.playMachineTurn(current));
+                }
+                game.advanceTurn();
+            }
+            if (game.getWinner() == searcher) {
+                wins++;
+            }
+        }
+        assertTrue(wins > games / 2, "MCTS should win most heads-up games, won " + wins + " of " + games);
+    }
+}
@@ -0,0 +1,69 @@
+package cincuentazo.model.ai;
+
+import cincuentazo.model.card.CardSet;
+import cincuentazo.model.game.Game;
+import cincuentazo.model.player.Player;
+import cincuentazo.model.random.RandomSource;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RolloutStateTest {
+
+    @Test
+    void determinize_keepsOwnHandTableAndHandSizes() throws Exception {
+        Game game = new Game(3, false, RandomSource.forIndex(7L, 0));
+        Player player = game.getCurrentPlayer();
+        Observation observation = Observation.of(game.getTurnView(player));
+        assertNotNull(observation);
+        assertEquals(CardSet.ALL & ~player.getHandBits() & ~game.getTableCardSet().bits(),
+                bits(observation.unseen), "Unseen cards are everything not in the hand or on the table");
+
+        RolloutState state = new RolloutState(3, RandomSource.forIndex(7L, 1));
+        for (int i = 0; i < 100; i++) {
+            state.determinize(observation);
+            assertEquals(52, state.cardCount(), "A deal should hold each card exactly once");
+            assertEquals(CardSet.ALL, state.cardBits(), "A deal should hold every card");
+            assertEquals(player.getHandBits() & state.playable(), state.playable(),
+                    "The observing seat keeps its real hand");
+        }
+    }
+
+    @Test
+    void playOut_conservesCardsAndEndsWithOneSeat() throws Exception {
+        for (int g = 0; g < 200; g++) {
+            Game game = new Game(4, false, RandomSource.forIndex(11L, g));
+            Observation observation = Observation.of(game.getTurnView(game.getCurrentPlayer()));
+            RolloutState state = new RolloutState(4, RandomSource.forIndex(12L, g));
+            state.determinize(observation);
+
+            int winner = state.playOut(100_000);
+
+            assertTrue(winner >= 0 && winner < 4, "A rollout should finish with a winner: " + winner);
+            assertTrue(state.isOver());
+            assertEquals(52, state.cardCount(), "No card may be lost or duplicated during a rollout");
+            assertEquals(CardSet.ALL, state.cardBits());
+        }
+    }
+
+    @Test
+    void randomBit_onlyPicksSetBits() {
+        long bits = (1L << 3) | (1L << 17) | (1L << 51);
+        var random = RandomSource.forIndex(1L, 0);
+        boolean[] seen = new boolean[52];
+        for (int i = 0; i < 300; i++) {
+            int ordinal = RolloutState.randomBit(bits, random);
+            assertTrue((bits & (1L << ordinal)) != 0, "Picked a bit that is not set: " + ordinal);
+            seen[ordinal] = true;
+        }
+        assertTrue(seen[3] && seen[17] && seen[51], "Every set bit should be picked eventually");
+    }
+
+    private static long bits(int[] ordinals) {
+        long bits = 0;
+        for (int ordinal : ordinals) {
+            bits |= 1L << ordinal;
+        }
+        return bits;
+    }
+}
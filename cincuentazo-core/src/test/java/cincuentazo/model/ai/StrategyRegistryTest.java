@@ -0,0 +1,46 @@
+package cincuentazo.model.ai;
+
+import cincuentazo.model.player.FirstCardStrategy;
+import cincuentazo.model.player.MachineStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StrategyRegistryTest {
+
+    @Test
+    void builtIns_areRegistered() {
+        StrategyRegistry registry = new StrategyRegistry();
+
+        assertEquals(List.of("expectimax", "first", "mcts", "random"), registry.getNames());
+        assertSame(FirstCardStrategy.INSTANCE, registry.create("first"));
+        assertInstanceOf(MctsStrategy.class, registry.create(" Mcts "), "Names are trimmed and case-insensitive");
+        assertNotSame(registry.create("random", 1L), registry.create("random", 1L),
+                "Each seat gets its own instance");
+    }
+
+    @Test
+    void register_addsOrReplacesAStrategy() {
+        StrategyRegistry registry = new StrategyRegistry();
+        MachineStrategy pass = view -> null;
+
+        registry.register("Pass", seed -> pass);
+
+        assertTrue(registry.contains("pass"));
+        assertSame(pass, registry.create("PASS"));
+        registry.register("first", seed -> pass);
+        assertSame(pass, registry.create("first"), "Registering a known name replaces it");
+    }
+
+    @Test
+    void unknownName_isRejected() {
+        StrategyRegistry registry = new StrategyRegistry();
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> registry.create("minimax"));
+        assertTrue(e.getMessage().contains("minimax"), "The message should name the missing strategy");
+        assertThrows(IllegalArgumentException.class, () -> registry.register(" ", seed -> null));
+        assertFalse(registry.contains(null));
+    }
+}
@@ -0,0 +1,66 @@
+package cincuentazo.model.card;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CardSetTest {
+
+    @Test
+    void addRemoveContains() {
+        CardSet set = new CardSet();
+        Card ace = Card.of("A", "Hearts");
+
+        assertTrue(set.add(ace));
+        assertFalse(set.add(ace), "Adding a card twice should not change the set");
+        assertTrue(set.contains(ace));
+        assertEquals(1, set.size());
+
+        assertTrue(set.remove(ace));
+        assertFalse(set.contains(ace));
+        assertTrue(set.isEmpty());
+    }
+
+    @Test
+    void nonStandardCardsAreIgnored() {
+        CardSet set = new CardSet();
+        assertFalse(set.add(new Card("1", "Spades")), "Non-standard cards have no bit");
+        assertTrue(set.isEmpty());
+    }
+
+    @Test
+    void iterate_inOrdinalOrder() {
+        CardSet set = CardSet.of(List.of(Card.of(40), Card.of(3), Card.of(51)));
+        List<Card> seen = new ArrayList<>();
+        for (Card card : set) {
+            seen.add(card);
+        }
+        assertEquals(List.of(Card.of(3), Card.of(40), Card.of(51)), seen);
+    }
+
+    @Test
+    void rankMask_foldsSuits() {
+        CardSet set = CardSet.of(List.of(Card.of("K", "Hearts"), Card.of("K", "Spades"), Card.of("2", "Clubs")));
+        assertEquals((1 << 12) | (1 << 1), set.rankMask(), "Each rank should appear once whatever its suit");
+        assertEquals(CardSet.ALL, CardSet.spreadRanks((1 << Card.RANKS) - 1));
+    }
+
+    @Test
+    void playable_matchesCardEffects() {
+        for (int sum = -30; sum <= 50; sum++) {
+            long mask = CardSet.playableMask(sum);
+            for (Card card : Card.standardDeck()) {
+                boolean expected = sum + card.calculateEffect(sum) <= 50;
+                assertEquals(expected, (mask & CardSet.bit(card)) != 0, card + " at sum " + sum);
+            }
+        }
+
+        // At 50 only a 9 or a face card fits
+        CardSet hand = CardSet.of(List.of(Card.of("5", "Hearts"), Card.of("9", "Clubs")));
+        assertTrue(hand.hasPlayable(50));
+        assertEquals(CardSet.of(List.of(Card.of("9", "Clubs"))), hand.playable(50));
+    }
+}
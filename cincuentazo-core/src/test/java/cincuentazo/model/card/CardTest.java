@@ -130,4 +130,54 @@ class CardTest {
         assertEquals(2, two.calculateEffect(50));
         assertEquals(-10, jack.calculateEffect(50));
     }
-}
\ No newline at end of file
+
+    @Test
+    void of_returnsCanonicalCards() {
+        // The same symbol and suit always map to the same instance
+        assertSame(Card.of("A", "Hearts"), Card.of("A", "Hearts"));
+        assertSame(Card.of("K", "Spades"), Card.of(Card.of("K", "Spades").getOrdinal()));
+
+        // Rank and ordinal follow the symbol and suit order
+        Card tenClubs = Card.of("10", "Clubs");
+        assertEquals(9, tenClubs.getRank());
+        assertEquals(2 * 13 + 9, tenClubs.getOrdinal());
+
+        assertThrows(IllegalArgumentException.class, () -> Card.of("1", "Hearts"));
+    }
+
+    @Test
+    void standardDeck() {
+        // 52 distinct cards, each stored at its own ordinal
+        assertEquals(52, Card.standardDeck().size());
+        for (int i = 0; i < Card.DECK_SIZE; i++) {
+            assertEquals(i, Card.standardDeck().get(i).getOrdinal());
+            assertSame(Card.of(i), Card.standardDeck().get(i));
+        }
+
+        // Precomputed effects follow the game rules at every sum
+        for (Card card : Card.standardDeck()) {
+            for (int sum = -60; sum <= 50; sum++) {
+                int expected = card.getRank() == Card.ACE
+                        ? (sum + 10 <= 50 ? 10 : 1)
+                        : card.getNumericValue();
+                assertEquals(expected, card.calculateEffect(sum), card + " at sum " + sum);
+            }
+        }
+    }
+
+    @Test
+    void nonStandardSymbol_isParsedOnlyWhenUsed() {
+        // Construction accepts any symbol, as before cards were interned
+        Card joker = assertDoesNotThrow(() -> new Card("Joker", "Hearts"));
+        assertEquals(-1, joker.getRank());
+        assertEquals(-1, joker.getOrdinal());
+        assertFalse(joker.isCanonical());
+        assertEquals("Joker of Hearts", joker.toString());
+        assertThrows(NumberFormatException.class, joker::getNumericValue);
+
+        // A numeric symbol outside the 13 still counts its face value
+        Card one = new Card("1", "Hearts");
+        assertEquals(1, one.getNumericValue());
+        assertEquals(1, one.calculateEffect(45));
+    }
+}
@@ -0,0 +1,49 @@
+package cincuentazo.model.card;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlayTableTest {
+
+    @Test
+    void tables_matchCardRules() {
+        // Check well past both ends of the stored range to cover clamping
+        for (int sum = PlayTable.MIN_SUM - 40; sum <= PlayTable.MAX_SUM + 20; sum++) {
+            for (int rank = 0; rank < Card.RANKS; rank++) {
+                Card card = Card.of(rank);
+                int effect = card.calculateEffect(sum);
+                boolean playable = sum + effect <= 50;
+
+                assertEquals(effect, PlayTable.effect(sum, rank), card + " effect at sum " + sum);
+                assertEquals(sum + effect, PlayTable.resultingSum(sum, rank));
+                assertEquals(playable, (PlayTable.playableRanks(sum) & (1 << rank)) != 0,
+                        card + " playability at sum " + sum);
+                assertEquals(playable, PlayTable.canPlay(sum, card));
+            }
+        }
+    }
+
+    @Test
+    void canPlay_asksNonCanonicalCards() {
+        // A card that overrides its own effect is not answered from the table
+        Card heavy = new Card("K", "Spades") {
+            @Override
+            public int calculateEffect(int currentSum) {
+                return 20;
+            }
+        };
+        assertFalse(heavy.isCanonical());
+        assertFalse(PlayTable.canPlay(40, heavy));
+        assertTrue(PlayTable.canPlay(40, Card.of("K", "Spades")));
+    }
+
+    @Test
+    void playableCards_spreadsRanksToSuits() {
+        assertEquals(CardSet.ALL, PlayTable.playableCards(0), "Every card fits on an empty table");
+        // At 50 only the 9 (rank 8) and the face cards fit
+        int expected = (1 << 8) | (1 << 10) | (1 << 11) | (1 << 12);
+        assertEquals(expected, PlayTable.playableRanks(50));
+        assertEquals(CardSet.spreadRanks(expected), PlayTable.playableCards(50));
+    }
+}
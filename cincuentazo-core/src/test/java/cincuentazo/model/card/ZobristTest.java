@@ -0,0 +1,106 @@
+package cincuentazo.model.card;
+
+import cincuentazo.model.deck.RingDeck;
+import cincuentazo.model.game.Game;
+import cincuentazo.model.game.GameSimulator;
+import cincuentazo.model.player.Player;
+import cincuentazo.model.random.RandomSource;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ZobristTest {
+
+    /**
+     * Hashes a game from scratch, the slow way.
+     */
+    private static long recompute(Game game) {
+        List<Player> players = game.getPlayers();
+        long hash = Zobrist.deckHash(game.getDeckComposition().bits()) ^ Zobrist.sum(game.getTableSum());
+        int current = players.indexOf(game.getCurrentPlayer());
+        hash ^= Zobrist.turn(current);
+        for (int seat = 0; seat < players.size(); seat++) {
+            hash ^= Zobrist.handHash(seat, players.get(seat).getHandBits());
+            if (players.get(seat).isEliminated()) {
+                hash ^= Zobrist.eliminated(seat);
+            }
+        }
+        return hash;
+    }
+
+    @Test
+    void gameHash_matchesRecomputationAfterEveryTurn() throws Exception {
+        for (int g = 0; g < 50; g++) {
+            Game game = new Game(4, false, RandomSource.forIndex(21L, g));
+            assertEquals(recompute(game), game.getZobristHash(), "Fresh game");
+            for (int turn = 0; turn < 500 && !game.isGameOver(); turn++) {
+                GameSimulator.playOut(game, 1);
+                if (!game.isGameOver()) {
+                    assertEquals(recompute(game), game.getZobristHash(), "Game " + g + ", turn " + turn);
+                }
+            }
+        }
+    }
+
+    @Test
+    void sameDeal_sameHash_differentMove_differentHash() throws Exception {
+        Game first = new Game(3, false, RandomSource.forIndex(4L, 0));
+        Game second = new Game(3, false, RandomSource.forIndex(4L, 0));
+        assertEquals(first.getZobristHash(), second.getZobristHash(), "Identical positions hash alike");
+
+        first.advanceTurn();
+        assertNotEquals(first.getZobristHash(), second.getZobristHash(), "The seat to move is part of the hash");
+        second.advanceTurn();
+        assertEquals(first.getZobristHash(), second.getZobristHash());
+    }
+
+    @Test
+    void handHash_followsAddAndRemove() {
+        Player player = new Player("P", true);
+        player.setSeat(2);
+        Card ace = Card.of("A", "Spades");
+        Card king = Card.of("K", "Hearts");
+
+        player.getHand().add(ace);
+        player.getHand().add(king);
+        assertEquals(Zobrist.hand(2, ace.getOrdinal()) ^ Zobrist.hand(2, king.getOrdinal()), player.getZobristHash());
+        player.getHand().remove(ace);
+        assertEquals(Zobrist.hand(2, king.getOrdinal()), player.getZobristHash());
+        player.setSeat(3);
+        assertEquals(Zobrist.hand(3, king.getOrdinal()), player.getZobristHash(), "Changing seat rehashes the hand");
+        player.eliminate();
+        assertEquals(0, player.getZobristHash());
+        assertThrows(IllegalArgumentException.class, () -> player.setSeat(Zobrist.MAX_SEATS));
+    }
+
+    @Test
+    void deckHash_followsComposition() {
+        RingDeck deck = new RingDeck(RandomSource.forIndex(1L, 0));
+        assertEquals(Zobrist.deckHash(CardSet.ALL), deck.getZobristHash());
+
+        Card drawn = deck.pollCard();
+        assertEquals(Zobrist.deckHash(CardSet.ALL) ^ Zobrist.deck(drawn.getOrdinal()), deck.getZobristHash());
+        deck.addCardToBottom(drawn);
+        assertEquals(Zobrist.deckHash(CardSet.ALL), deck.getZobristHash(), "The hash ignores the order");
+    }
+
+    @Test
+    void topKeys_areDistinctFromEachOtherAndFromTheDeckKeys() {
+        Set<Long> keys = new HashSet<>();
+        for (int card = 0; card < Card.DECK_SIZE; card++) {
+            assertTrue(keys.add(Zobrist.top(card)), "Top key of card " + card + " is repeated");
+            assertTrue(keys.add(Zobrist.deck(card)), "Deck key of card " + card + " is repeated");
+        }
+    }
+
+    @Test
+    void sum_isClampedToTheTableRange() {
+        assertEquals(Zobrist.sum(PlayTable.MAX_SUM), Zobrist.sum(PlayTable.MAX_SUM + 40));
+        assertEquals(Zobrist.sum(PlayTable.MIN_SUM), Zobrist.sum(PlayTable.MIN_SUM - 40));
+        assertNotEquals(Zobrist.sum(49), Zobrist.sum(50));
+    }
+}
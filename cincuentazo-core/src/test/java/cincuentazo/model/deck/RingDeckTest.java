@@ -0,0 +1,106 @@
+package cincuentazo.model.deck;
+
+import cincuentazo.model.card.Card;
+import cincuentazo.model.card.CardSet;
+import cincuentazo.model.exceptions.EmptyDeckException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Stack;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RingDeckTest {
+
+    private RingDeck deck;
+
+    @BeforeEach
+    void setUp() {
+        deck = new RingDeck();
+    }
+
+    @Test
+    void newDeck_holdsEveryCanonicalCardOnce() {
+        assertEquals(52, deck.remainingCards(), "A new deck should contain 52 cards");
+
+        List<Card> drawn = new ArrayList<>();
+        assertEquals(52, deck.drawCards(drawn, 100), "drawCards() should stop when the deck runs out");
+        assertEquals(52, new HashSet<>(drawn).size(), "Every card should appear exactly once");
+        assertEquals(0, deck.remainingCards());
+    }
+
+    @Test
+    void drawCard_takesFromTop() throws EmptyDeckException {
+        RingDeck ordered = new RingDeck(List.of(Card.of(0), Card.of(1), Card.of(2)));
+        assertSame(Card.of(2), ordered.drawCard(), "The last card given should be on top");
+        assertSame(Card.of(1), ordered.drawCard());
+        assertEquals(1, ordered.remainingCards());
+    }
+
+    @Test
+    void drawCard_throwsWhenEmpty() {
+        RingDeck empty = new RingDeck(List.of());
+        assertThrows(EmptyDeckException.class, empty::drawCard,
+                "drawCard() should throw EmptyDeckException on an empty deck");
+    }
+
+    @Test
+    void addCardToBottom_isDrawnLast() throws EmptyDeckException {
+        RingDeck ordered = new RingDeck(List.of(Card.of(0), Card.of(1)));
+        ordered.addCardToBottom(Card.of(5));
+
+        assertSame(Card.of(1), ordered.drawCard());
+        assertSame(Card.of(0), ordered.drawCard());
+        assertSame(Card.of(5), ordered.drawCard(), "A card added to the bottom should be drawn last");
+    }
+
+    @Test
+    void copyCardsToBottom_growsPastInitialCapacity() {
+        // Wrap around the ring and force it to grow several times
+        List<Card> extra = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            extra.add(Card.of(i % Card.DECK_SIZE));
+        }
+        deck.copyCardsToBottom(extra);
+        assertEquals(252, deck.remainingCards(), "Bulk add should keep every card");
+        assertEquals(200, extra.size(), "Copying should not modify the source");
+
+        List<Card> drawn = new ArrayList<>();
+        deck.drawCards(drawn, 252);
+        assertEquals(extra.get(extra.size() - 1), drawn.get(drawn.size() - 1),
+                "The last card added to the bottom should be the last one drawn");
+    }
+
+    @Test
+    void addCardsToBottom_stackOverloadPopsSource() {
+        Stack<Card> newCards = new Stack<>();
+        newCards.push(Card.of("A", "Hearts"));
+        newCards.push(Card.of("K", "Spades"));
+
+        deck.addCardsToBottom(newCards);
+        assertEquals(54, deck.remainingCards());
+        assertTrue(newCards.isEmpty(), "The stack overload should pop the source like Deck does");
+    }
+
+    @Test
+    void resetDeck_addsAndKeepsSource() {
+        List<Card> recycled = List.of(Card.of(0), Card.of(1), Card.of(2));
+        deck.resetDeck(recycled);
+        assertEquals(55, deck.remainingCards(), "resetDeck() should add every recycled card");
+    }
+
+    @Test
+    void composition_tracksDrawsAndInserts() throws EmptyDeckException {
+        assertEquals(CardSet.ALL, deck.getCompositionBits(), "A full deck should hold every card");
+
+        Card drawn = deck.drawCard();
+        assertFalse(deck.getComposition().contains(drawn), "A drawn card should leave the composition");
+        assertEquals(51, deck.getComposition().size());
+
+        deck.addCardToBottom(drawn);
+        assertTrue(deck.getComposition().contains(drawn), "A returned card should be back in the composition");
+    }
+}
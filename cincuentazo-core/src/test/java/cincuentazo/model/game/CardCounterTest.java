@@ -0,0 +1,103 @@
+package cincuentazo.model.game;
+
+import cincuentazo.model.card.Card;
+import cincuentazo.model.card.PlayTable;
+import cincuentazo.model.player.Player;
+import cincuentazo.model.player.TurnView;
+import cincuentazo.model.random.RandomSource;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CardCounterTest {
+
+    @Test
+    void counts_matchTheCardsAfterEveryTurn() throws Exception {
+        for (int index = 0; index < 20; index++) {
+            Game game = new Game(2 + index % 4, false, RandomSource.forIndex(25L, index));
+            assertConsistent(game, "deal of game " + index);
+            for (int turn = 0; turn < 500 && !game.isGameOver(); turn++) {
+                Player current = game.getCurrentPlayer();
+                if (current != null) {
+                    game.executeMachineTurn(current);
+                    assertConsistent(game, "game " + index + ", turn " + turn);
+                }
+                game.advanceTurn();
+            }
+        }
+    }
+
+    @Test
+    void unseen_excludesOwnHandAndTable() throws Exception {
+        Game game = new Game(3, false, RandomSource.forIndex(25L, 99));
+        CardCounter counter = game.getCardCounter();
+        int seat = 1;
+        List<Card> hand = game.getPlayers().get(seat).getHand();
+        assertEquals(Card.DECK_SIZE - hand.size() - 1, counter.getUnseenTotal(seat),
+                "everything but the own hand and the starting card is unseen");
+        int rank = hand.get(0).getRank();
+        int ownOfRank = counter.getHandCount(seat, rank);
+        assertEquals(4 - ownOfRank - counter.getTableCount(rank), counter.getUnseenCount(seat, rank));
+
+        TurnView view = game.getTurnView(game.getPlayers().get(seat));
+        assertEquals(counter.getUnseenTotal(seat), view.getUnseenTotal());
+        assertEquals(counter.getUnseenCount(seat, rank), view.getUnseenCount(rank));
+    }
+
+    @Test
+    void drawPlayableChance_countsPlayableUnseenRanks() throws Exception {
+        Game game = new Game(2, false, RandomSource.forIndex(25L, 7));
+        CardCounter counter = game.getCardCounter();
+        for (int sum = 0; sum <= 50; sum++) {
+            int playable = 0;
+            int deckPlayable = 0;
+            for (int rank = 0; rank < Card.RANKS; rank++) {
+                if (PlayTable.canPlay(sum, Card.of(rank))) {
+                    playable += counter.getUnseenCount(0, rank);
+                    deckPlayable += counter.getDeckCount(rank);
+                }
+            }
+            assertEquals((double) playable / counter.getUnseenTotal(0), counter.getDrawPlayableChance(0, sum), 1e-12,
+                    "draw chance at sum " + sum);
+            assertEquals((double) deckPlayable / counter.getDeckTotal(), counter.getDeckPlayableChance(sum), 1e-12,
+                    "deck chance at sum " + sum);
+        }
+        assertEquals(1.0, counter.getDrawPlayableChance(0, 0), 1e-12, "every card fits at sum 0");
+    }
+
+    private static void assertConsistent(Game game, String when) {
+        CardCounter counter = game.getCardCounter();
+        long deckBits = game.getDeckComposition().bits();
+        long tableBits = game.getTableCardSet().bits();
+        assertEquals(Long.bitCount(deckBits), counter.getDeckTotal(), "deck size, " + when);
+        assertEquals(Long.bitCount(tableBits), counter.getTableTotal(), "table size, " + when);
+        List<Player> players = game.getPlayers();
+        for (int r = 0; r < Card.RANKS; r++) {
+            int rank = r;
+            assertEquals(countRank(deckBits, rank), counter.getDeckCount(rank), "deck rank " + rank + ", " + when);
+            assertEquals(countRank(tableBits, rank), counter.getTableCount(rank), "table rank " + rank + ", " + when);
+            int held = 0;
+            for (int seat = 0; seat < players.size(); seat++) {
+                int inHand = (int) players.get(seat).getHand().stream().filter(c -> c.getRank() == rank).count();
+                assertEquals(inHand, counter.getHandCount(seat, rank), "seat " + seat + " rank " + rank + ", " + when);
+                held += inHand;
+            }
+            for (int seat = 0; seat < players.size(); seat++) {
+                assertEquals(countRank(deckBits, rank) + held - counter.getHandCount(seat, rank),
+                        counter.getUnseenCount(seat, rank), "unseen, " + when);
+            }
+        }
+    }
+
+    private static int countRank(long bits, int rank) {
+        int count = 0;
+        for (int suit = 0; suit < Card.DECK_SIZE / Card.RANKS; suit++) {
+            if ((bits & (1L << (suit * Card.RANKS + rank))) != 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
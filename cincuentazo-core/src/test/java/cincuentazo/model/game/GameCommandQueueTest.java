@@ -0,0 +1,129 @@
+package cincuentazo.model.game;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameCommandQueueTest {
+
+    @Test
+    void concurrentSubmitters_areAppliedOneAtATime() throws Exception {
+        Game game = new Game(2, false);
+        int start = game.getTableSum();
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+
+        try (GameCommandQueue commands = new GameCommandQueue(game, pool)) {
+            List<CompletableFuture<Void>> all = new ArrayList<>();
+            List<Thread> submitters = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                Thread submitter = new Thread(() -> {
+                    for (int i = 0; i < 5_000; i++) {
+                        CompletableFuture<Void> done = commands.execute(g -> g.addTableSum(1));
+                        synchronized (all) {
+                            all.add(done);
+                        }
+                    }
+                });
+                submitters.add(submitter);
+                submitter.start();
+            }
+            for (Thread submitter : submitters) {
+                submitter.join();
+            }
+            CompletableFuture.allOf(all.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+
+            assertEquals(start + 40_000, (int) commands.call(Game::getTableSum),
+                    "No update should be lost even though the drain runs on a multi-threaded pool");
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void commands_runInSubmissionOrder() throws Exception {
+        try (GameCommandQueue commands = new GameCommandQueue(new Game(2, false))) {
+            List<Integer> order = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                int n = i;
+                commands.execute(g -> order.add(n));
+            }
+            commands.call(g -> null);
+            for (int i = 0; i < 100; i++) {
+                assertEquals(i, order.get(i));
+            }
+        }
+    }
+
+    @Test
+    void call_fromInsideACommand_runsInline() throws Exception {
+        try (GameCommandQueue commands = new GameCommandQueue(new Game(2, false))) {
+            int sum = commands.submit(g -> {
+                assertTrue(commands.isOwnerThread(), "A command runs on the owner");
+                return commands.call(Game::getTableSum); // would deadlock if it were queued
+            }).get(5, TimeUnit.SECONDS);
+            assertEquals(commands.call(Game::getTableSum), sum);
+            assertFalse(commands.isOwnerThread());
+        }
+    }
+
+    @Test
+    void failingCommand_completesExceptionallyAndQueueKeepsGoing() throws Exception {
+        try (GameCommandQueue commands = new GameCommandQueue(new Game(2, false))) {
+            CompletableFuture<Object> failed = commands.submit(g -> {
+                throw new IllegalStateException("boom");
+            });
+            CompletionException e = assertThrows(CompletionException.class, failed::join);
+            assertInstanceOf(IllegalStateException.class, e.getCause());
+            assertNotNull(commands.call(Game::getPlayers), "Later commands should still run");
+        }
+    }
+
+    @Test
+    void submitAfterClose_failsInsteadOfHanging() throws Exception {
+        GameCommandQueue commands = new GameCommandQueue(new Game(2, false));
+        assertEquals(Boolean.FALSE, commands.call(Game::isGameOver));
+        commands.close();
+
+        CompletableFuture<Integer> late = commands.submit(Game::getTableSum);
+        assertTrue(late.isCompletedExceptionally(), "A closed queue should refuse new commands");
+        CompletionException error = assertThrows(CompletionException.class, () -> commands.call(Game::getTableSum));
+        assertInstanceOf(IllegalStateException.class, error.getCause());
+    }
+
+    @Test
+    void rejectedDrain_failsEveryPendingCommand() throws Exception {
+        Executor saturated = task -> {
+            throw new RejectedExecutionException("saturated"); // the queue itself is not closed
+        };
+        GameCommandQueue commands = new GameCommandQueue(new Game(2, false), saturated);
+
+        for (int i = 0; i < 3; i++) {
+            CompletableFuture<Integer> result = commands.submit(Game::getTableSum);
+            ExecutionException error = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS),
+                    "Command " + i + " should fail, not wait for a drain that never comes");
+            assertInstanceOf(RejectedExecutionException.class, error.getCause());
+        }
+    }
+
+    @Test
+    void submitAfterSchedulerClose_fails() throws Exception {
+        TurnScheduler scheduler = new TurnScheduler(1);
+        ScheduledTable table = scheduler.host(new Game(2, false), TablePacing.NONE, new TableListener() { });
+        scheduler.close();
+
+        CompletableFuture<Integer> late = table.getCommands().submit(Game::getTableSum);
+        assertThrows(ExecutionException.class, () -> late.get(5, TimeUnit.SECONDS),
+                "A table whose scheduler is gone should refuse commands");
+    }
+}
@@ -0,0 +1,144 @@
+package cincuentazo.model.game;
+
+import cincuentazo.model.random.RandomSource;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameEventBusTest {
+
+    @Test
+    void fullGame_reportsEveryMoveInOrder() throws Exception {
+        Game game = new Game(3, false, RandomSource.forIndex(3L, 0));
+        int startSum = game.getTableSum();
+        List<GameEvent> events = new ArrayList<>();
+        game.addListener(GameListener.of(events::add));
+
+        GameSimulator.playOut(game, GameSimulator.DEFAULT_MAX_TURNS);
+
+        int sum = startSum;
+        int eliminated = 0;
+        int over = 0;
+        for (GameEvent event : events) {
+            switch (event) {
+                case GameEvent.CardPlayed e -> {
+                    sum += e.effect();
+                    assertEquals(sum, e.tableSum(), "Each play should report the sum it leads to");
+                }
+                case GameEvent.PlayerEliminated e -> eliminated++;
+                case GameEvent.GameOver e -> {
+                    over++;
+                    assertEquals(game.getPlayers().indexOf(game.getWinner()), e.winnerSeat());
+                }
+                default -> { }
+            }
+        }
+        assertEquals(game.getTableSum(), sum, "Replaying the plays should rebuild the final sum");
+        assertEquals(2, eliminated, "Two of three players are eliminated");
+        assertEquals(1, over, "Game over is announced exactly once");
+    }
+
+    @Test
+    void typedMethods_receiveTheirEvents() throws Exception {
+        Game game = new Game(2, false, RandomSource.forIndex(5L, 0));
+        List<String> seen = new ArrayList<>();
+        game.addListener(new GameListener() {
+            @Override
+            public void onCardPlayed(GameEvent.CardPlayed event) {
+                seen.add("played");
+            }
+
+            @Override
+            public void onTurnAdvanced(GameEvent.TurnAdvanced event) {
+                seen.add("turn " + event.seat());
+            }
+        });
+
+        game.playMachineTurn(game.getCurrentPlayer());
+        game.advanceTurn();
+
+        assertEquals(List.of("played", "turn 1"), seen);
+    }
+
+    @Test
+    void executorDelivery_keepsOrderOnAPool() throws Exception {
+        Game game = new Game(3, false, RandomSource.forIndex(9L, 0));
+        List<GameEvent> direct = new ArrayList<>();
+        List<GameEvent> async = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch over = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            game.addListener(GameListener.of(direct::add));
+            game.getEvents().subscribe(GameListener.of(event -> {
+                async.add(event);
+                if (event instanceof GameEvent.GameOver) {
+                    over.countDown();
+                }
+            }), pool);
+
+            GameSimulator.playOut(game, GameSimulator.DEFAULT_MAX_TURNS);
+
+            assertTrue(over.await(10, TimeUnit.SECONDS), "The async listener should see the end of the game");
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (async.size() < direct.size() && System.nanoTime() < deadline) {
+                Thread.sleep(1); // a turn event may follow the game over
+            }
+            assertEquals(direct, async, "The pool should deliver the same events in the same order");
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void closedSubscription_stopsReceiving() throws Exception {
+        Game game = new Game(2, false);
+        List<GameEvent> events = new ArrayList<>();
+        GameEventBus.Subscription subscription = game.addListener(GameListener.of(events::add));
+        assertTrue(game.getEvents().hasListeners());
+
+        subscription.close();
+        game.advanceTurn();
+
+        assertTrue(events.isEmpty());
+        assertFalse(game.getEvents().hasListeners());
+    }
+
+    @Test
+    void listeners_findTheEventInTheSnapshot() throws Exception {
+        for (boolean shared : new boolean[] {true, false}) {
+            Game game = new Game(3, false, RandomSource.forIndex(3L, 1));
+            if (shared) {
+                game.shareSnapshots();
+            }
+            List<String> problems = new ArrayList<>();
+            game.addListener(GameListener.of(event -> {
+                GameSnapshot snapshot = game.getSnapshot();
+                boolean reflected = switch (event) {
+                    case GameEvent.CardPlayed e -> snapshot.getTableSum() == e.tableSum()
+                            && snapshot.getTopCard() == e.card();
+                    case GameEvent.CardDrawn e -> snapshot.getHand(e.seat()).contains(e.card());
+                    case GameEvent.PlayerEliminated e -> !snapshot.isActive(e.seat());
+                    case GameEvent.TurnAdvanced e -> snapshot.getTurn() == e.turn();
+                    case GameEvent.GameOver e -> snapshot.isGameOver();
+                    case GameEvent.DeckRecycled e -> snapshot.getDeckSize() == e.deckSize() - 1; // the draw that needed it
+                };
+                if (!reflected) {
+                    problems.add(event + " not in " + snapshot);
+                }
+            }));
+
+            GameSimulator.playOut(game, GameSimulator.DEFAULT_MAX_TURNS);
+
+            assertTrue(game.isGameOver());
+            assertEquals(List.of(), problems, "shared snapshots: " + shared);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package cincuentazo.model.game;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameSimulatorTest {
+
+    @Test
+    void run_playsEveryRequestedGame() {
+        GameSimulator simulator = new GameSimulator(3);
+        SimulationReport report = simulator.run(600);
+
+        assertEquals(600, report.getGames(), "run() should play exactly the requested number of games");
+
+        long wins = 0;
+        for (long w : report.getWinsBySeat()) {
+            wins += w;
+        }
+        assertEquals(report.getGames(), wins + report.getUnfinished(),
+                "Every game should either have a winner or be counted as unfinished");
+        assertTrue(report.getMinTurns() <= report.getMaxTurns(), "Min length should not exceed max length");
+        assertTrue(report.getAverageTurns() > 0, "Games should last at least one turn");
+    }
+
+    @Test
+    void playOut_respectsTurnLimit() throws Exception {
+        Game game = new Game(2, false);
+        int turns = GameSimulator.playOut(game, 3);
+        assertTrue(turns <= 3, "playOut() should never exceed the turn limit");
+    }
+
+    @Test
+    void constructor_rejectsInvalidPlayerCount() {
+        assertThrows(IllegalArgumentException.class, () -> new GameSimulator(1),
+                "A simulation needs at least two machines");
+        assertThrows(IllegalArgumentException.class, () -> new GameSimulator(13, 100, ForkJoinPool.commonPool()),
+                "The deck cannot deal more than 12 machines");
+    }
+
+    @Test
+    void allMachineGame_hasNoHuman() throws Exception {
+        Game game = new Game(3, false);
+        assertEquals(3, game.getPlayers().size(), "An all-machine game should only seat the machines");
+        assertTrue(game.getPlayers().stream().allMatch(p -> p.isMachine()), "Every seat should be a machine");
+    }
+
+    @Test
+    void run_withSameSeed_replaysExactly() {
+        SimulationReport first = new GameSimulator(3, 1_000, new ForkJoinPool(4), 42L).run(300);
+        SimulationReport second = new GameSimulator(3, 1_000, new ForkJoinPool(1), 42L).run(300);
+
+        assertEquals(42L, first.getSeed());
+        assertEquals(first.getTotalTurns(), second.getTotalTurns(),
+                "The same seed should replay the same games, whatever the number of threads");
+        assertArrayEquals(first.getWinsBySeat(), second.getWinsBySeat());
+    }
+}
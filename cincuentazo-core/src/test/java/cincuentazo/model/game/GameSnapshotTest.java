@@ -0,0 +1,129 @@
+package cincuentazo.model.game;
+
+import cincuentazo.model.card.Card;
+import cincuentazo.model.player.Player;
+import cincuentazo.model.random.RandomSource;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameSnapshotTest {
+
+    @Test
+    void newGame_publishesInitialSnapshot() throws Exception {
+        Game game = new Game(2);
+        GameSnapshot snapshot = game.getSnapshot();
+
+        assertNotNull(snapshot, "A new game should already have a snapshot");
+        assertEquals(3, snapshot.getSeatCount());
+        assertEquals(0b111, snapshot.getActiveSeats());
+        assertEquals(game.getTableSum(), snapshot.getTableSum());
+        assertSame(game.getTopCard(), snapshot.getTopCard());
+        assertEquals(0, snapshot.getCurrentSeat());
+        assertFalse(snapshot.isMachine(0), "Seat 0 is the human");
+        assertTrue(snapshot.isMachine(1));
+        assertEquals("CPU-2", snapshot.getPlayerName(2));
+        for (int seat = 0; seat < 3; seat++) {
+            assertEquals(game.getPlayers().get(seat).getHand(), snapshot.getHand(seat));
+            assertEquals(game.getPlayers().get(seat).getHandBits(), snapshot.getHandBits(seat));
+        }
+    }
+
+    @Test
+    void snapshot_isNotAffectedByLaterMoves() throws Exception {
+        Game game = new Game(2, false, RandomSource.forIndex(7L, 0));
+        GameSnapshot before = game.getSnapshot();
+        List<Card> handBefore = before.getHand(0);
+        int sumBefore = before.getTableSum();
+
+        Player first = game.getCurrentPlayer();
+        assertEquals(MoveResult.PLAYED, game.playMachineTurn(first));
+        game.advanceTurn();
+
+        assertEquals(sumBefore, before.getTableSum(), "An old snapshot should keep its sum");
+        assertEquals(handBefore, before.getHand(0), "An old snapshot should keep its hands");
+        GameSnapshot after = game.getSnapshot();
+        assertTrue(after.getVersion() > before.getVersion(), "Every change should publish a newer version");
+        assertEquals(before.getTurn() + 1, after.getTurn());
+        assertEquals(game.getTableSum(), after.getTableSum());
+        assertEquals(1, after.getCurrentSeat());
+        assertThrows(UnsupportedOperationException.class, () -> after.getHand(0).clear());
+    }
+
+    @Test
+    void elimination_clearsSeatAndDeclaresWinner() throws Exception {
+        Game game = new Game(3, false);
+        game.eliminatePlayer(game.getPlayers().get(0));
+
+        GameSnapshot snapshot = game.getSnapshot();
+        assertFalse(snapshot.isActive(0));
+        assertEquals(-1, snapshot.getCurrentSeat(), "The eliminated current seat is not reported as current");
+        assertEquals(0, snapshot.getHandSize(0));
+        assertEquals(-1, snapshot.getWinnerSeat(), "Two players are still in");
+
+        game.eliminatePlayer(game.getPlayers().get(1));
+        assertEquals(2, game.getSnapshot().getWinnerSeat());
+        assertTrue(game.getSnapshot().isGameOver());
+    }
+
+    @Test
+    void readers_alwaysSeeConsistentSnapshots() throws Exception {
+        Game game = new Game(3, false, RandomSource.forIndex(11L, 0));
+        game.shareSnapshots();
+        AtomicBoolean done = new AtomicBoolean();
+        AtomicReference<String> problem = new AtomicReference<>();
+
+        Thread reader = new Thread(() -> {
+            long lastVersion = -1;
+            while (!done.get()) {
+                GameSnapshot s = game.getSnapshot();
+                if (s.getVersion() < lastVersion) {
+                    problem.set("Version went back: " + s);
+                }
+                lastVersion = s.getVersion();
+                for (int seat = 0; seat < s.getSeatCount(); seat++) {
+                    long bits = 0;
+                    for (Card card : s.getHand(seat)) {
+                        bits |= 1L << card.getOrdinal();
+                    }
+                    if (bits != s.getHandBits(seat)) {
+                        problem.set("Hand and bits disagree in " + s);
+                    }
+                }
+            }
+        });
+        reader.start();
+        GameSimulator.playOut(game, GameSimulator.DEFAULT_MAX_TURNS);
+        done.set(true);
+        reader.join();
+
+        assertNull(problem.get());
+    }
+
+    @Test
+    void unsharedGame_buildsSnapshotsOnlyWhenAsked() throws Exception {
+        Game game = new Game(2, false, RandomSource.forIndex(7L, 1));
+        GameSnapshot first = game.getSnapshot();
+        assertSame(first, game.getSnapshot(), "Nothing changed, so the same snapshot should be returned");
+
+        GameSimulator.playOut(game, 20);
+        GameSnapshot later = game.getSnapshot();
+        assertEquals(first.getVersion() + 1, later.getVersion(),
+                "Without readers the moves in between should not have built snapshots");
+        assertEquals(game.getTableSum(), later.getTableSum());
+
+        game.shareSnapshots();
+        Player current = game.getCurrentPlayer();
+        if (current != null) {
+            game.playMachineTurn(current);
+        }
+        game.advanceTurn();
+        assertTrue(game.getSnapshot().getVersion() > later.getVersion() + 1,
+                "Shared snapshots should be published on every change");
+        assertEquals(game.getTableSum(), game.getSnapshot().getTableSum());
+    }
+}
@@ -0,0 +1,178 @@
+package cincuentazo.model.game;
+
+import cincuentazo.model.ai.MctsStrategy;
+import cincuentazo.model.ai.RandomStrategy;
+import cincuentazo.model.card.Card;
+import cincuentazo.model.player.FirstCardStrategy;
+import cincuentazo.model.player.Player;
+import cincuentazo.model.player.TurnView;
+import cincuentazo.model.random.RandomSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameTest {
+
+    private Game game;
+    private Player human;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        game = new Game(2, true, RandomSource.forIndex(11L, 0));
+        human = game.getPlayers().get(0);
+    }
+
+    @Test
+    void tryPlayCard_invalidMove_changesNothing() {
+        // Push the sum close to 50 so a 10 no longer fits
+        game.addTableSum(45 - game.getTableSum());
+        Card ten = Card.of("10", "Hearts");
+        human.getHand().add(ten);
+
+        assertEquals(MoveResult.INVALID_MOVE, game.tryPlayCard(human, ten));
+        assertEquals(45, game.getTableSum(), "An invalid move should not change the table sum");
+        assertTrue(human.getHand().contains(ten), "An invalid move should keep the card in hand");
+    }
+
+    @Test
+    void tryPlayCard_validMove_updatesTable() {
+        Card card = human.getHand().get(0);
+        game.addTableSum(-game.getTableSum()); // sum 0, every card fits
+        int expected = card.calculateEffect(0);
+
+        assertEquals(MoveResult.PLAYED, game.tryPlayCard(human, card));
+        assertEquals(expected, game.getTableSum());
+        assertSame(card, game.getTopCard());
+        assertEquals(3, human.getHand().size());
+    }
+
+    @Test
+    void tryDraw_fullHand() {
+        assertEquals(MoveResult.HAND_FULL, game.tryDraw(human), "A full hand should not draw");
+    }
+
+    @Test
+    void eliminatePlayer_onlyOnce() {
+        Player cpu = game.getPlayers().get(1);
+        int deckBefore = game.getDeck().remainingCards();
+
+        assertTrue(game.eliminatePlayer(cpu));
+        assertFalse(game.eliminatePlayer(cpu), "A player can only be eliminated once");
+        assertEquals(deckBefore + 4, game.getDeck().remainingCards(),
+                "The eliminated hand should go back to the deck");
+        assertEquals(2, game.getActivePlayerCount());
+    }
+
+    @Test
+    void playMachineTurn_noValidCard_eliminates() {
+        Player cpu = game.getPlayers().get(1);
+        game.addTableSum(50 - game.getTableSum());
+        cpu.getHand().clear();
+        cpu.getHand().add(Card.of("5", "Clubs"));
+
+        assertEquals(MoveResult.ELIMINATED, game.playMachineTurn(cpu));
+        assertTrue(cpu.isEliminated());
+        assertNull(game.getLastPlayedCard());
+    }
+
+    @Test
+    void tryHumanPlay_noValidCard_returnsHandAndFreesSeat() {
+        game.addTableSum(50 - game.getTableSum());
+        human.getHand().clear();
+        human.getHand().add(Card.of("5", "Clubs"));
+        human.getHand().add(Card.of("6", "Clubs"));
+        int deckBefore = game.getDeck().remainingCards();
+
+        assertEquals(MoveResult.ELIMINATED, game.tryHumanPlay(human, human.getHand().get(0)));
+        assertTrue(human.isEliminated());
+        assertTrue(human.getHand().isEmpty());
+        assertEquals(deckBefore + 2, game.getDeck().remainingCards(),
+                "The game, not the player, should put the hand back in the deck");
+        assertEquals(2, game.getActivePlayerCount(), "The seat should leave the ring");
+        assertFalse(game.getActivePlayers().contains(human));
+    }
+
+    @Test
+    void recyclingAndElimination_keepEveryCardOnce() throws Exception {
+        Game played = new Game(3, false, RandomSource.forIndex(4L, 0));
+        for (int turn = 0; turn < 400 && !played.isGameOver(); turn++) {
+            Player current = played.getCurrentPlayer();
+            if (current != null) {
+                played.executeMachineTurn(current);
+            }
+            played.advanceTurn();
+
+            long deck = played.getDeckComposition().bits();
+            long table = played.getTableCardSet().bits();
+            int cards = played.getDeck().remainingCards() + Long.bitCount(table);
+            long seen = deck | table;
+            for (Player player : played.getPlayers()) {
+                cards += player.getHand().size();
+                seen |= player.getHandBits();
+            }
+            assertEquals(Card.DECK_SIZE, cards, "No card should be lost or duplicated at turn " + turn);
+            assertEquals(-1L >>> (64 - Card.DECK_SIZE), seen, "Every card should be somewhere at turn " + turn);
+        }
+    }
+
+    @Test
+    void turnOrder_skipsEliminatedPlayer() {
+        Player cpu1 = game.getPlayers().get(1);
+        Player cpu2 = game.getPlayers().get(2);
+
+        game.advanceTurn();
+        assertSame(cpu1, game.getCurrentPlayer());
+        game.eliminatePlayer(cpu1);
+        game.advanceTurn();
+        assertSame(cpu2, game.getCurrentPlayer(), "The player after an eliminated one should not be skipped");
+    }
+
+    @Test
+    void strategyNames_assignOneStrategyPerMachineSeat() throws Exception {
+        Game seeded = new Game(true, List.of("first", "random", "MCTS"), RandomSource.forIndex(12L, 0));
+
+        assertEquals(4, seeded.getPlayers().size());
+        assertNull(seeded.getStrategy(0), "The human seat has no strategy");
+        assertSame(FirstCardStrategy.INSTANCE, seeded.getStrategy(1));
+        assertInstanceOf(RandomStrategy.class, seeded.getStrategy(2));
+        assertInstanceOf(MctsStrategy.class, seeded.getStrategy(3), "Names are case-insensitive");
+        assertThrows(IllegalArgumentException.class,
+                () -> new Game(false, List.of("first", "nope"), RandomSource.forIndex(12L, 1)));
+    }
+
+    @Test
+    void playMachineTurn_playsTheSeatStrategysCard() {
+        Player cpu = game.getPlayers().get(1);
+        game.addTableSum(-game.getTableSum());
+        Card last = cpu.getHand().get(cpu.getHand().size() - 1);
+        List<TurnView> seen = new ArrayList<>();
+        game.setStrategy(1, view -> {
+            seen.add(view);
+            return view.getHand().get(view.getHand().size() - 1);
+        });
+
+        assertEquals(MoveResult.PLAYED, game.playMachineTurn(cpu));
+        assertSame(last, game.getLastPlayedCard(), "The strategy's choice should be played");
+        assertEquals(1, seen.get(0).getSeat());
+        assertThrows(UnsupportedOperationException.class, () -> seen.get(0).getHand().clear(),
+                "A strategy must not change the hand");
+        assertThrows(IllegalArgumentException.class, () -> game.setStrategy(0, FirstCardStrategy.INSTANCE),
+                "The human seat cannot be given a strategy");
+    }
+
+    @Test
+    void playMachineTurn_invalidChoice_fallsBackToFirstCard() {
+        Player cpu = game.getPlayers().get(1);
+        game.addTableSum(-game.getTableSum());
+        Card first = cpu.getHand().get(0);
+        Card elsewhere = Card.standardDeck().stream().filter(c -> !cpu.getHand().contains(c)).findFirst().orElseThrow();
+        game.setStrategy(1, view -> elsewhere);
+
+        assertEquals(MoveResult.PLAYED, game.playMachineTurn(cpu));
+        assertSame(first, game.getLastPlayedCard(), "A card that is not in the hand falls back to the first valid one");
+    }
+}
@@ -0,0 +1,45 @@
+package cincuentazo.model.game;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    @Test
+    void quantiles_areWithinBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long v = 1; v <= 100_000; v++) {
+            histogram.record(v * 1_000);
+        }
+
+        assertEquals(100_000, histogram.getCount());
+        assertEquals(100_000_000, histogram.getMaxNanos());
+        assertEquals(50_000_500, histogram.getMeanNanos(), 1e-6);
+        long p50 = histogram.getQuantileNanos(0.5);
+        long p99 = histogram.getQuantileNanos(0.99);
+        assertTrue(Math.abs(p50 - 50_000_000) <= 50_000_000 * 0.07, "p50 off by more than a bucket: " + p50);
+        assertTrue(Math.abs(p99 - 99_000_000) <= 99_000_000 * 0.07, "p99 off by more than a bucket: " + p99);
+        assertEquals(100_000_000, histogram.getQuantileNanos(1.0), "p100 should be the maximum");
+    }
+
+    @Test
+    void smallValues_areExact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(3);
+        histogram.record(7);
+        histogram.record(-5);
+
+        assertEquals(0, histogram.getQuantileNanos(0.0));
+        assertEquals(3, histogram.getQuantileNanos(0.5));
+        assertEquals(7, histogram.getQuantileNanos(1.0));
+    }
+
+    @Test
+    void empty_reportsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getQuantileNanos(0.99));
+        assertEquals(0, histogram.getMeanNanos());
+        assertThrows(IllegalArgumentException.class, () -> histogram.getQuantileNanos(1.5));
+    }
+}
@@ -0,0 +1,58 @@
+package cincuentazo.model.game;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SeatRingTest {
+
+    @Test
+    void advance_cyclesThroughSeats() {
+        SeatRing ring = new SeatRing(3);
+        assertEquals(0, ring.current());
+        ring.advance();
+        assertEquals(1, ring.current());
+        ring.advance();
+        ring.advance();
+        assertEquals(0, ring.current(), "The turn should wrap around to the first seat");
+    }
+
+    @Test
+    void remove_currentSeat_passesTurnToNextSeat() {
+        SeatRing ring = new SeatRing(4);
+        ring.advance(); // seat 1
+        assertTrue(ring.remove(1));
+        assertFalse(ring.isActive(1));
+
+        ring.advance();
+        assertEquals(2, ring.current(), "Removing the current seat should not skip the following one");
+    }
+
+    @Test
+    void remove_skipsRemovedSeats() {
+        SeatRing ring = new SeatRing(4);
+        ring.remove(1);
+        ring.remove(2);
+        ring.advance();
+        assertEquals(3, ring.current(), "advance() should jump over removed seats");
+        assertEquals(2, ring.size());
+    }
+
+    @Test
+    void remove_isIdempotent() {
+        SeatRing ring = new SeatRing(3);
+        assertTrue(ring.remove(2));
+        assertFalse(ring.remove(2), "A seat can only be removed once");
+        assertEquals(2, ring.size());
+    }
+
+    @Test
+    void survivor_onlyWhenOneSeatLeft() {
+        SeatRing ring = new SeatRing(3);
+        assertEquals(-1, ring.survivor());
+        ring.remove(0);
+        assertEquals(-1, ring.survivor());
+        ring.remove(2);
+        assertEquals(1, ring.survivor(), "The last seat in the ring is the survivor");
+    }
+}
@@ -0,0 +1,87 @@
+package cincuentazo.model.game;
+
+import cincuentazo.model.player.Player;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SessionHostTest {
+
+    @Test
+    void thousandsOfSessions_runConcurrentlyOnVirtualThreads() throws Exception {
+        int sessions = 2_000;
+        AtomicInteger winners = new AtomicInteger();
+        TablePacing pacing = new TablePacing(Duration.ofMillis(5), Duration.ofMillis(10), Duration.ofMillis(1));
+
+        try (SessionHost host = new SessionHost()) {
+            for (int i = 0; i < sessions; i++) {
+                host.open(3, false, pacing, new TableListener() {
+                    @Override
+                    public void onGameOver(Player winner) {
+                        if (winner != null) {
+                            winners.incrementAndGet();
+                        }
+                    }
+                });
+            }
+            assertTrue(host.getActiveSessions() > 0, "Sessions should still be sleeping through their first turns");
+            assertTrue(host.awaitAll(Duration.ofSeconds(60)), "Every session should finish");
+            assertEquals(0, host.getActiveSessions(), "Finished sessions should no longer be tracked");
+            assertTrue(host.getTurnLatency().getCount() > sessions, "Every machine turn should record its latency");
+        }
+        assertEquals(sessions, winners.get(), "Every machine-only game should end with a winner");
+    }
+
+    @Test
+    void humanTurn_blocksUntilEnded() throws Exception {
+        CountDownLatch humanTurn = new CountDownLatch(1);
+        CountDownLatch machineTurn = new CountDownLatch(1);
+
+        try (SessionHost host = new SessionHost()) {
+            GameSession session = host.open(1, true, TablePacing.NONE, new TableListener() {
+                @Override
+                public void onHumanTurn(Player human) {
+                    humanTurn.countDown();
+                }
+
+                @Override
+                public void onMachineMove(Player cpu, MoveResult result) {
+                    machineTurn.countDown();
+                }
+            });
+
+            assertTrue(humanTurn.await(5, TimeUnit.SECONDS), "The human seat plays first");
+            assertFalse(machineTurn.await(50, TimeUnit.MILLISECONDS), "The session should wait for the human");
+            session.endHumanTurn();
+            assertTrue(machineTurn.await(5, TimeUnit.SECONDS), "Ending the human turn should wake the loop");
+
+            session.close();
+            assertTrue(session.await(Duration.ofSeconds(5)), "A closed session should exit its loop");
+            assertTrue(session.isFinished());
+            assertNull(host.getSession(session.getId()), "A closed session should no longer be tracked");
+        }
+    }
+
+    @Test
+    void closingHost_endsSessionsWaitingForTheHuman() throws Exception {
+        for (int round = 0; round < 200; round++) {
+            SessionHost host = new SessionHost();
+            GameSession session = host.open(1, true, TablePacing.NONE, new TableListener() { });
+            host.close(); // may run before the loop reaches the human's turn, or while it waits there
+            assertTrue(session.await(Duration.ofSeconds(5)), "A closed session should exit its loop, round " + round);
+            assertTrue(session.isFinished());
+        }
+    }
+
+    @Test
+    void closedHost_refusesNewSessions() {
+        SessionHost host = new SessionHost();
+        host.close();
+        assertThrows(IllegalStateException.class, () -> host.open(2, false, TablePacing.NONE, new TableListener() { }));
+    }
+}
@@ -0,0 +1,87 @@
+package cincuentazo.model.game;
+
+import cincuentazo.model.ai.MctsStrategy;
+import cincuentazo.model.ai.StrategyRegistry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TournamentTest {
+
+    private static final ForkJoinPool SEARCH_POOL = new ForkJoinPool(1);
+
+    @BeforeAll
+    static void registerFastMcts() {
+        StrategyRegistry.getDefault().register("mcts-fast",
+                seed -> new MctsStrategy(Duration.ofSeconds(1), 50, SEARCH_POOL, seed));
+    }
+
+    @Test
+    void run_playsEveryPairingInBothSeatings() {
+        TournamentReport report = new Tournament(List.of("first", "random", "mcts-fast"), 10, 1_000,
+                new ForkJoinPool(2), 3L).run();
+
+        assertEquals(3 * 2 * 10, report.getTotalGames(), "3 pairs x 2 seatings x 10 games");
+        for (int i = 0; i < 3; i++) {
+            assertEquals(40, report.getGames(i), "Each strategy meets two opponents in two seatings");
+            for (int j = 0; j < 3; j++) {
+                if (i != j) {
+                    assertEquals(20, report.getGamesAgainst(i, j));
+                    assertTrue(report.getWinsAgainst(i, j) + report.getWinsAgainst(j, i) <= 20);
+                }
+            }
+            double[] ci = report.getWinRateInterval(i);
+            assertTrue(ci[0] <= report.getWinRate(i) && report.getWinRate(i) <= ci[1],
+                    "The interval should contain the observed rate");
+            assertTrue(report.getDecisions(i) > 0, "Every decision is timed");
+            assertTrue(report.getP50Nanos(i) <= report.getP99Nanos(i));
+        }
+        long wins = report.getWins(0) + report.getWins(1) + report.getWins(2);
+        assertEquals(report.getTotalGames(), wins + report.getUnfinished());
+    }
+
+    @Test
+    void run_withSameSeed_replaysExactly() {
+        TournamentReport first = new Tournament(List.of("first", "random"), 50, 1_000, new ForkJoinPool(3), 8L).run();
+        TournamentReport second = new Tournament(List.of("first", "random"), 50, 1_000, new ForkJoinPool(1), 8L).run();
+
+        assertEquals(first.getWins(0), second.getWins(0), "The same seed should replay the same games");
+        assertEquals(first.getWins(1), second.getWins(1));
+    }
+
+    @Test
+    void exports_containEveryStrategy() {
+        TournamentReport report = new Tournament(List.of("first", "random"), 5, 1_000, new ForkJoinPool(1), 1L).run();
+
+        String[] csv = report.toCsv().split("\n");
+        assertEquals(3, csv.length, "A header and one row per strategy");
+        assertTrue(csv[0].startsWith("strategy,games,wins,win_rate,ci95_low,ci95_high"));
+        assertTrue(csv[1].startsWith("first,10,"), csv[1]);
+        String json = report.toJson();
+        assertTrue(json.contains("\"name\": \"random\""), json);
+        assertTrue(json.contains("\"a\": \"first\", \"b\": \"random\", \"games\": 10"), json);
+    }
+
+    @Test
+    void defaultPool_isCreatedForEachRun() {
+        Tournament tournament = new Tournament(List.of("first", "random"), 5, 2L);
+        TournamentReport first = tournament.run();
+        TournamentReport second = tournament.run();
+
+        assertEquals(10, first.getTotalGames(), "1 pair x 2 seatings x 5 games");
+        assertEquals(first.getWins(0), second.getWins(0), "A run should not depend on the previous one's pool");
+    }
+
+    @Test
+    void constructor_rejectsBadInput() {
+        assertThrows(IllegalArgumentException.class, () -> new Tournament(List.of("first"), 10, 1L));
+        assertThrows(IllegalArgumentException.class, () -> new Tournament(List.of("first", "first"), 10, 1L));
+        assertThrows(IllegalArgumentException.class, () -> new Tournament(List.of("first", "nope"), 10, 1L));
+        assertThrows(IllegalArgumentException.class, () -> new Tournament(List.of("first", "random"), 0, 1L));
+    }
+}
@@ -0,0 +1,94 @@
+package cincuentazo.model.game;
+
+import cincuentazo.model.player.Player;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TurnSchedulerTest {
+
+    @Test
+    void oneThread_drivesManyTablesToTheEnd() throws Exception {
+        int tables = 200;
+        CountDownLatch finished = new CountDownLatch(tables);
+        AtomicInteger winners = new AtomicInteger();
+        TablePacing pacing = new TablePacing(Duration.ofMillis(1), Duration.ofMillis(3), Duration.ofMillis(1));
+        List<ScheduledTable> hosted = new ArrayList<>();
+
+        try (TurnScheduler scheduler = new TurnScheduler(1)) {
+            for (int i = 0; i < tables; i++) {
+                ScheduledTable table = scheduler.host(new Game(3, false), pacing, new TableListener() {
+                    @Override
+                    public void onGameOver(Player winner) {
+                        if (winner != null) {
+                            winners.incrementAndGet();
+                        }
+                        finished.countDown();
+                    }
+                });
+                hosted.add(table);
+                table.start();
+            }
+            assertTrue(finished.await(60, TimeUnit.SECONDS), "Every table should finish on a single thread");
+        }
+
+        assertEquals(tables, winners.get(), "Every machine-only game should end with a winner");
+        for (ScheduledTable table : hosted) {
+            assertEquals(ScheduledTable.State.FINISHED, table.getState());
+            assertTrue(table.getGame().getActivePlayerCount() <= 1, "A finished table should have at most one player left");
+        }
+    }
+
+    @Test
+    void humanTurn_waitsForEndHumanTurn() throws Exception {
+        CountDownLatch humanTurn = new CountDownLatch(1);
+        CountDownLatch machineTurn = new CountDownLatch(1);
+
+        try (TurnScheduler scheduler = new TurnScheduler(1)) {
+            ScheduledTable table = scheduler.host(new Game(1), TablePacing.NONE, new TableListener() {
+                @Override
+                public void onHumanTurn(Player human) {
+                    humanTurn.countDown();
+                }
+
+                @Override
+                public void onMachineMove(Player cpu, MoveResult result) {
+                    machineTurn.countDown();
+                }
+            });
+            table.start();
+
+            assertTrue(humanTurn.await(5, TimeUnit.SECONDS), "The human seat plays first");
+            assertEquals(ScheduledTable.State.WAITING_HUMAN, table.getState());
+            assertFalse(machineTurn.await(50, TimeUnit.MILLISECONDS), "The table should not move on by itself");
+
+            table.endHumanTurn();
+            assertTrue(machineTurn.await(5, TimeUnit.SECONDS), "Ending the human turn should start the machine's");
+            table.stop();
+            assertEquals(ScheduledTable.State.STOPPED, table.getState());
+        }
+    }
+
+    @Test
+    void start_twice_isRejected() throws Exception {
+        try (TurnScheduler scheduler = new TurnScheduler(1)) {
+            ScheduledTable table = scheduler.host(new Game(2, false), TablePacing.DEFAULT, new TableListener() { });
+            table.start();
+            assertThrows(IllegalStateException.class, table::start);
+            table.stop();
+        }
+    }
+
+    @Test
+    void pacing_rejectsInvertedRange() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new TablePacing(Duration.ofSeconds(2), Duration.ofSeconds(1), Duration.ZERO));
+    }
+}
@@ -0,0 +1,144 @@
+package cincuentazo.model.log;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameLoggerTest {
+
+    private static String text(ByteArrayOutputStream out) {
+        return out.toString(StandardCharsets.UTF_8).replace(System.lineSeparator(), "\n");
+    }
+
+    @Test
+    void messages_arePrintedInOrderWithPlaceholdersFilled() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        GameLogger logger = new GameLogger(64, new PrintStream(out, true, StandardCharsets.UTF_8), LogLevel.INFO);
+
+        logger.log(LogLevel.INFO, "Starting card: {} → Table sum: {}", "5 of Hearts", 5);
+        logger.log(LogLevel.WARN, "{} has been eliminated!", "Machine 1");
+        logger.log(LogLevel.INFO, "no placeholders", "ignored");
+        logger.log(LogLevel.INFO, "{} {} {}", 1, null, 3);
+
+        assertTrue(logger.flush(5_000), "flush should finish");
+        assertEquals("Starting card: 5 of Hearts → Table sum: 5\n"
+                + "WARN Machine 1 has been eliminated!\n"
+                + "no placeholders\n"
+                + "1 null 3\n", text(out));
+    }
+
+    @Test
+    void belowLevel_isNeverFormatted() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        GameLogger logger = new GameLogger(64, new PrintStream(out), LogLevel.OFF);
+        Object argument = new Object() {
+            @Override
+            public String toString() {
+                throw new AssertionError("an OFF logger must not format its arguments");
+            }
+        };
+
+        logger.log(LogLevel.ERROR, "{}", argument);
+        logger.setLevel(LogLevel.WARN);
+        logger.log(LogLevel.INFO, "{}", argument);
+
+        assertFalse(logger.isEnabled(LogLevel.INFO));
+        assertTrue(logger.flush(1_000));
+        assertEquals(0, out.size(), "nothing should be printed");
+    }
+
+    @Test
+    void formatting_happensOnTheDrainerThread() throws InterruptedException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        GameLogger logger = new GameLogger(64, new PrintStream(out, true), LogLevel.DEBUG);
+        AtomicReference<String> formattedOn = new AtomicReference<>();
+        Object argument = new Object() {
+            @Override
+            public String toString() {
+                formattedOn.set(Thread.currentThread().getName());
+                return "x";
+            }
+        };
+
+        logger.log(LogLevel.DEBUG, "{}", argument);
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (formattedOn.get() == null && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+
+        assertEquals("game-logger", formattedOn.get(), "the caller should not build the line");
+    }
+
+    @Test
+    void idleDrainer_parksUntilTheNextMessage() throws InterruptedException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        GameLogger logger = new GameLogger(64, new PrintStream(out, true, StandardCharsets.UTF_8), LogLevel.INFO);
+        AtomicReference<Thread> drainer = new AtomicReference<>();
+        Object argument = new Object() {
+            @Override
+            public String toString() {
+                drainer.set(Thread.currentThread());
+                return "first";
+            }
+        };
+
+        logger.log(LogLevel.INFO, "{}", argument);
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while ((drainer.get() == null || drainer.get().getState() != Thread.State.WAITING)
+                && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(Thread.State.WAITING, drainer.get().getState(), "an idle drainer should park without a timeout");
+
+        logger.log(LogLevel.INFO, "second");
+        while (!text(out).contains("second") && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals("first\nsecond\n", text(out), "a new message should wake the drainer without a flush");
+    }
+
+    @Test
+    void fullBuffer_dropsInsteadOfBlocking() throws InterruptedException {
+        CountDownLatch printing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        OutputStream stalled = new OutputStream() {
+            @Override
+            public void write(int b) {
+                write(new byte[]{(byte) b}, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                printing.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                out.write(b, off, len);
+            }
+        };
+        GameLogger logger = new GameLogger(4, new PrintStream(stalled, true), LogLevel.INFO);
+
+        logger.log(LogLevel.INFO, "first");
+        assertTrue(printing.await(5, TimeUnit.SECONDS), "the drainer should start printing");
+        for (int i = 0; i < 20; i++) {
+            logger.log(LogLevel.INFO, "message {}", i);
+        }
+        long dropped = logger.getDropped();
+        release.countDown();
+
+        assertTrue(dropped >= 15, "at most the buffer capacity fits while the sink is stalled: " + dropped);
+        assertTrue(logger.flush(5_000));
+        assertTrue(text(out).contains(dropped + " log messages dropped"), text(out));
+    }
+}
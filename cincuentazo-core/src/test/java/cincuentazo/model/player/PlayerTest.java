@@ -1,6 +1,7 @@
 package cincuentazo.model.player;
 
 import cincuentazo.model.card.Card;
+import cincuentazo.model.card.CardSet;
 import cincuentazo.model.deck.IDeck;
 import cincuentazo.model.exceptions.EmptyDeckException;
 import cincuentazo.model.exceptions.InvalidMoveException;
@@ -147,4 +148,21 @@ class PlayerTest {
         assertEquals(4, humanPlayer.getHand().size(),
                 "dealInitialCards() should ensure exactly 4 cards in hand");
     }
-}
\ No newline at end of file
+
+    @Test
+    void getHandBits_followsHandChanges() {
+        Card five = Card.of("5", "Hearts");
+        Card king = Card.of("K", "Spades");
+        humanPlayer.getHand().add(five);
+        humanPlayer.getHand().add(king);
+
+        assertEquals(CardSet.bit(five) | CardSet.bit(king), humanPlayer.getHandBits(),
+                "Hand bits should mirror every card added to the hand");
+
+        humanPlayer.getHand().remove(five);
+        assertEquals(CardSet.bit(king), humanPlayer.getHandBits(), "Removing a card should clear its bit");
+
+        humanPlayer.eliminate();
+        assertTrue(humanPlayer.getHandSet().isEmpty(), "Clearing the hand should clear every bit");
+    }
+}
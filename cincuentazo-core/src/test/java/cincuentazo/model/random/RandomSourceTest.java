@@ -0,0 +1,42 @@
+package cincuentazo.model.random;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RandomSourceTest {
+
+    @Test
+    void forIndex_isReproducible() {
+        RandomGenerator a = RandomSource.forIndex(7L, 3);
+        RandomGenerator b = RandomSource.forIndex(7L, 3);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(a.nextLong(), b.nextLong(), "Same seed and index should give the same sequence");
+        }
+    }
+
+    @Test
+    void forIndex_differsBetweenIndices() {
+        RandomGenerator a = RandomSource.forIndex(7L, 3);
+        RandomGenerator b = RandomSource.forIndex(7L, 4);
+        assertNotEquals(a.nextLong(), b.nextLong(), "Neighbouring indices should give different streams");
+    }
+
+    @Test
+    void shuffle_keepsEveryElement() {
+        List<Integer> list = new ArrayList<>();
+        for (int i = 0; i < 52; i++) {
+            list.add(i);
+        }
+        RandomSource.shuffle(list, RandomSource.forIndex(1L, 0));
+
+        assertEquals(52, list.size());
+        for (int i = 0; i < 52; i++) {
+            assertTrue(list.contains(i), "shuffle() should only reorder the elements");
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package cincuentazo.view;
 
+import cincuentazo.model.log.GameLogger;
+import cincuentazo.model.log.LogLevel;
 import javafx.application.Application;
 import javafx.stage.Stage;
 
@@ -17,6 +19,7 @@ public class Main extends Application {
      */
     @Override
     public void start(Stage primaryStage) {
+        GameLogger.enableByDefault(LogLevel.INFO); // print the moves to the console, as the game always has
         try {
             CincuentazoWelcomeStage.getInstance();
         } catch (IOException e) {
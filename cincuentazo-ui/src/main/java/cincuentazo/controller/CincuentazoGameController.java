@@ -1,14 +1,27 @@
 package cincuentazo.controller;
 
 import cincuentazo.model.card.Card;
+import cincuentazo.model.card.PlayTable;
 import cincuentazo.model.exceptions.EmptyDeckException;
-import cincuentazo.model.exceptions.InvalidMoveException;
 import cincuentazo.model.game.Game;
+import cincuentazo.model.game.GameEvent;
+import cincuentazo.model.game.GameListener;
+import cincuentazo.model.game.GameSnapshot;
+import cincuentazo.model.game.MoveResult;
+import cincuentazo.model.game.ScheduledTable;
+import cincuentazo.model.game.TableListener;
+import cincuentazo.model.game.TablePacing;
+import cincuentazo.model.game.TurnScheduler;
+import cincuentazo.model.log.GameLogger;
+import cincuentazo.model.log.LogLevel;
 import cincuentazo.model.player.Player;
+import cincuentazo.view.CardImageCache;
 import cincuentazo.view.CincuentazoGameStage;
 import cincuentazo.view.CincuentazoHelpStage;
 import cincuentazo.view.CincuentazoWelcomeStage;
 import cincuentazo.view.CincuentazoWinnerStage;
+import cincuentazo.view.HandView;
+import cincuentazo.view.RenderScheduler;
 import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
@@ -19,13 +32,10 @@ import javafx.scene.control.Alert;
 import javafx.scene.control.ButtonType;
 import javafx.scene.control.DialogPane;
 import javafx.scene.control.Label;
-import javafx.scene.effect.DropShadow;
 import javafx.scene.effect.Glow;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
-import javafx.scene.paint.Color;
 import javafx.stage.Stage;
 import javafx.event.ActionEvent;
 import javafx.stage.StageStyle;
@@ -33,8 +43,13 @@ import javafx.stage.StageStyle;
 import java.io.IOException;
 import java.net.URL;
 import java.util.*;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import static cincuentazo.view.RenderScheduler.HIGHLIGHT;
+import static cincuentazo.view.RenderScheduler.TABLE_SUM;
+import static cincuentazo.view.RenderScheduler.TOP_CARD;
+
 /**
  * Controller for the main game view of Cincuentazo.
  * Manages the game logic, UI updates, and player interactions.
@@ -66,11 +81,20 @@ public class CincuentazoGameController {
     private final AtomicBoolean humanTurnActive = new AtomicBoolean(false);
     private Card selectedCard = null;
     private volatile boolean gameRunning = false;
-    private Thread gameThread;
-    private Map<ImageView, Card> cardViewMap;
+    private ScheduledTable table;
+    private final Map<Player, HandView> handViews = new HashMap<>(); // one incremental view per hand
+    private final RenderScheduler renders = new RenderScheduler(this::render); // at most one redraw per pulse
+    private volatile Player highlightedPlayer;
     private int currentPlayerIndex = 0;
     private boolean cardPlayedThisTurn = false;
 
+    /**
+     * One thread drives the tables of every open game window.
+     */
+    private static final TurnScheduler TURN_SCHEDULER = new TurnScheduler(1);
+
+    private final CardImageCache cardImages = CardImageCache.getInstance(); // decoded once, shared by every game
+
     private final AlertManager alertManager = new AlertManager(); //de la clase interna
 
     //Para hacer pruebas
@@ -83,17 +107,16 @@ public class CincuentazoGameController {
     public void initializeGame(int numMachines) {
         try {
             game = new Game(numMachines);
+            game.shareSnapshots(); // render() reads them on the FX thread
             humanPlayer = game.getPlayers().get(0);
-            cardViewMap = new HashMap<>();
             gameRunning = true;
 
             assignPlayerPositions(numMachines);
 
-            Platform.runLater(() -> {
-                updateUI();
-                showGameStart(numMachines);
-            });
+            updateUI();
+            Platform.runLater(() -> showGameStart(numMachines));
 
+            listenToGame();
             startGameLoop();
 
         } catch (EmptyDeckException e) {
@@ -147,6 +170,13 @@ public class CincuentazoGameController {
             playerPositions.put(players.get(3).getName(), rightVBox);
         }
 
+        for (Player player : players) {
+            VBox position = playerPositions.get(player.getName());
+            if (position != null) {
+                createHandView(player, position);
+            }
+        }
+
         // Hide unused positions
         Platform.runLater(() -> {
             if (numMachines < 3) rightVBox.setVisible(false);
@@ -155,84 +185,74 @@ public class CincuentazoGameController {
     }
 
     /**
-     * Main game loop - now just orchestrates turns and UI updates.
+     * Marks the parts of the screen touched by each game event dirty.
+     * Runs on the thread applying the move; invalidating is thread-safe and cheap.
      */
-    private void startGameLoop() {
-        gameThread = new Thread(() -> {
-            try {
-                while (gameRunning && !game.isGameOver()) {
-                    Player currentPlayer = game.getCurrentPlayer();
-
-                    if (currentPlayer == null) {
-                        game.advanceTurn();
-                        continue;
-                    }
-
-                    Platform.runLater(() -> highlightCurrentPlayer(currentPlayer));
-
-                    if (currentPlayer.isMachine()) {
-                        playMachineTurnUI(currentPlayer);
-                    } else {
-                        playHumanTurnUI();
-                    }
-
-                    Thread.sleep(500);
-                }
+    private void listenToGame() {
+        game.addListener(new GameListener() {
+            @Override
+            public void onCardPlayed(GameEvent.CardPlayed event) {
+                renders.invalidate(TABLE_SUM | TOP_CARD | RenderScheduler.hand(event.seat()));
+            }
 
-                if (gameRunning) {
-                    Platform.runLater(this::showGameOver);
-                }
+            @Override
+            public void onCardDrawn(GameEvent.CardDrawn event) {
+                renders.invalidate(RenderScheduler.hand(event.seat()));
+            }
 
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
+            @Override
+            public void onPlayerEliminated(GameEvent.PlayerEliminated event) {
+                renders.invalidate(RenderScheduler.hand(event.seat()));
             }
         });
-        gameThread.setDaemon(true);
-        gameThread.start();
     }
 
     /**
-     * Handles machine player turn (UI side).
+     * Hosts the game on the shared turn scheduler; turns, CPU thinking and pauses
+     * are scheduled transitions of the table instead of a dedicated sleeping thread.
      */
-    private void playMachineTurnUI(Player cpu) {
-        try {
-            // Realistic delay
-            int delay = 2000 + (int) (Math.random() * 2000);
-            Thread.sleep(delay);
-
-            // Execute turn in model
-            Card played = game.executeMachineTurn(cpu);
+    private void startGameLoop() {
+        table = TURN_SCHEDULER.host(game, TablePacing.DEFAULT, new TableListener() {
+            @Override
+            public void onTurnStarted(Player player) {
+                highlightCurrentPlayer(player);
+            }
 
-            Platform.runLater(() -> {
-                if (played != null) {
-                    // Successfully played
-                    updateUI();
-                } else {
+            @Override
+            public void onMachineMove(Player cpu, MoveResult result) {
+                if (result != MoveResult.PLAYED) {
                     // Player was eliminated
-                    alertManager.showWarning("Player Eliminated!", cpu.getName() + " has been eliminated!");
-                    updateUI();
+                    Platform.runLater(() -> alertManager.showWarning("Player Eliminated!", cpu.getName() + " has been eliminated!"));
                 }
-            });
+            }
 
-            game.advanceTurn();
+            @Override
+            public void onHumanTurn(Player human) {
+                Platform.runLater(() -> {
+                    cardPlayedThisTurn = false;
+                    humanTurnActive.set(true);
+                    renders.invalidate(handOf(human));
+                });
+            }
 
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+            @Override
+            public void onGameOver(Player winner) {
+                if (gameRunning) {
+                    Platform.runLater(CincuentazoGameController.this::showGameOver);
+                }
+            }
+        });
+        table.start();
     }
 
     /**
-     * Handles human player turn (UI side).
+     * Ends the human turn; the table starts the next turn right away.
+     * Must be called on the JavaFX thread.
      */
-    private void playHumanTurnUI() throws InterruptedException {
-        humanTurnActive.set(true);
+    private void endHumanTurn() {
+        humanTurnActive.set(false);
         cardPlayedThisTurn = false;
-        Platform.runLater(this::updateUI);
-
-        // Wait for human action
-        while (humanTurnActive.get() && gameRunning && !game.isGameOver()) {
-            Thread.sleep(100);
-        }
+        table.endHumanTurn();
     }
 
     /**
@@ -250,32 +270,58 @@ public class CincuentazoGameController {
             return;
         }
 
-        // Check if card is valid
-        if (!game.isValidMove(card)) {
-            if (!game.hasValidCards(humanPlayer)) {
-                // No valid cards - eliminate player
-                game.eliminatePlayer(humanPlayer);
-                alertManager.showWarning("Eliminated!", "You have no valid cards to play.");
-                humanTurnActive.set(false);
-                cardPlayedThisTurn = false;
-                game.advanceTurn();
-                updateUI();
+        // Check and play the card as one command, so nothing changes in between
+        cardPlayedThisTurn = true; // until the command says otherwise; blocks double clicks
+        table.getCommands().submit(g -> {
+            if (!g.isValidMove(card)) {
+                if (!g.hasValidCards(humanPlayer)) {
+                    // No valid cards - eliminate player
+                    g.eliminatePlayer(humanPlayer);
+                    return new HumanMove(MoveResult.ELIMINATED, 0);
+                }
+                return new HumanMove(MoveResult.INVALID_MOVE, g.getTableSum() + card.calculateEffect(g.getTableSum()));
+            }
+            return new HumanMove(g.tryHumanPlay(humanPlayer, card), g.getTableSum());
+        }).whenComplete((move, error) -> Platform.runLater(() -> {
+            if (error != null) {
+                cardPlayedThisTurn = false; // let the player try again
+                reportCommandFailure("Play Failed", error);
             } else {
-                // Player has other valid cards
-                int effect = card.calculateEffect(game.getTableSum());
-                int newSum = game.getTableSum() + effect;
-                alertManager.showWarning("Invalid Move", "This card would exceed 50 (new sum: " + newSum + ").\nChoose another card.");
+                showHumanMove(move);
             }
-            return;
-        }
+        }));
+    }
 
-        // Play the card
-        try {
-            game.executeHumanPlay(humanPlayer, card);
-            cardPlayedThisTurn = true;
-            updateUI();
-        } catch (InvalidMoveException e) {
-            alertManager.showWarning("Invalid Move", e.getMessage());
+    /**
+     * Logs a game command that completed exceptionally and tells the player. Runs on the FX thread.
+     */
+    private void reportCommandFailure(String title, Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        GameLogger.getDefault().log(LogLevel.ERROR, "{}: {}", title, cause);
+        alertManager.showError(title, "The game could not apply your move:\n" + cause.getMessage());
+    }
+
+    /**
+     * Outcome of a human card click and the table sum it leads to.
+     */
+    private record HumanMove(MoveResult result, int newSum) {
+    }
+
+    /**
+     * Updates the UI after a human card click has been applied.
+     */
+    private void showHumanMove(HumanMove move) {
+        switch (move.result()) {
+            case PLAYED -> cardPlayedThisTurn = true;
+            case ELIMINATED -> {
+                cardPlayedThisTurn = false;
+                endHumanTurn();
+                alertManager.showWarning("Eliminated!", "You have no valid cards to play.");
+            }
+            default -> { // Player has other valid cards
+                cardPlayedThisTurn = false;
+                alertManager.showWarning("Invalid Move", "This card would exceed 50 (new sum: " + move.newSum() + ").\nChoose another card.");
+            }
         }
     }
 
@@ -289,18 +335,26 @@ public class CincuentazoGameController {
             return;
         }
 
-        game.executeHumanDraw(humanPlayer);
-        updateUI();
-
-        humanTurnActive.set(false);
-        cardPlayedThisTurn = false;
-        game.advanceTurn();
+        table.getCommands().draw(humanPlayer).whenComplete((result, error) -> {
+            if (error != null) {
+                Platform.runLater(() -> reportCommandFailure("Draw Failed", error));
+            }
+        });
+        endHumanTurn(); // queued after the draw
     }
 
     /**
-     * Highlights the current player's position.
+     * Highlights the current player's position on the next pulse; may be called from any thread.
      */
     private void highlightCurrentPlayer(Player player) {
+        highlightedPlayer = player;
+        renders.invalidate(HIGHLIGHT);
+    }
+
+    /**
+     * Moves the highlight to the given player's position.
+     */
+    private void renderHighlight(Player player) {
         // Remove all highlights
         removeAllHighlights();
 
@@ -345,204 +399,99 @@ public class CincuentazoGameController {
     // ============ UI UPDATE METHODS ============
 
     /**
-     * Updates the entire UI.
+     * Marks the entire UI dirty; it is redrawn once on the next pulse.
      */
     private void updateUI() {
-        Platform.runLater(() -> {
-            updateTableSum();
-            updateTableCard();
-            updateAllPlayerHands();
-        });
+        renders.invalidateAll();
     }
 
     /**
-     * Updates the table sum display.
+     * Redraws the parts of the UI marked dirty since the last pulse.
+     * A new table sum changes which of the human's cards are playable, so it
+     * also redraws the human's hand.
+     * Everything drawn comes from one published snapshot, never from the live game.
      */
-    private void updateTableSum() {
-        if (tableSumLabel != null) {
-            tableSumLabel.setText("Suma: " + game.getTableSum());
+    private void render(long dirty) {
+        if (game == null) {
+            return;
         }
-    }
-
-    /**
-     * Updates the card displayed on the table.
-     */
-    private void updateTableCard() {
-        if (tableCardImage != null && game.getTopCard() != null) {
-            String imagePath = getCardImagePath(game.getTopCard());
-            System.out.println(imagePath);
-            var is = getClass().getResourceAsStream(imagePath);
-            try {
-                if (is != null) {
-                    Image cardImage = new Image(is);
-                    tableCardImage.setImage(cardImage);
-                }
-            } catch (Exception e) {
-                System.err.println("Error loading card image: " + imagePath);
-            }
+        GameSnapshot snapshot = game.getSnapshot();
+        if ((dirty & TABLE_SUM) != 0) {
+            updateTableSum(snapshot);
+            dirty |= handOf(humanPlayer);
+        }
+        if ((dirty & TOP_CARD) != 0) {
+            updateTableCard(snapshot);
         }
+        if ((dirty & HIGHLIGHT) != 0 && highlightedPlayer != null) {
+            renderHighlight(highlightedPlayer);
+        }
+        updatePlayerHands(snapshot, dirty);
     }
 
     /**
-     * Updates all players' hand displays.
+     * Returns the render flag of a player's hand.
      */
-    private void updateAllPlayerHands() {
-        for (Player player : game.getPlayers()) {
-            VBox position = playerPositions.get(player.getName());
-            if (position != null) {
-                if (!player.isEliminated()) {
-                    updatePlayerHand(player, position);
-                } else {
-                    clearPlayerDisplay(position);
-                }
-            }
-        }
+    private long handOf(Player player) {
+        return RenderScheduler.hand(game.getPlayers().indexOf(player));
     }
 
     /**
-     * Updates a specific player's hand display.
+     * Updates the table sum display.
      */
-    private void updatePlayerHand(Player player, VBox container) {
-        // Buscar el HBox que contiene las cartas dentro del VBox entonces no asumimos indice fijo
-        HBox cardContainer = null;
-        for (var node : container.getChildren()) {
-            if (node instanceof HBox h) {
-                cardContainer = h;
-                break;
-            }
-        }
-        if (cardContainer == null) {
-            // No hay HBox dentro del container entonces pues no hay nada que actualizar
-            System.err.println("updatePlayerHand: no se encontró HBox en el container para " + player.getName());
-            return;
-        }
-
-        List<Card> hand = player.getHand();
-        System.out.println("Mano de " + player.getName() + ": " + hand);
-
-        // Clean y re-draw the current hand
-        cardContainer.getChildren().clear();
-        // mantenemos cardViewMap para referencia, pero limpiamos y volvemos a llenar
-        if (cardViewMap == null) cardViewMap = new HashMap<>();
-        cardViewMap.clear();
-
-        for (Card card : hand) {
-            ImageView cardView = createCardView(card, !player.isMachine()); // faceUp para humano, faceDown para CPU
-
-            if (!player.isMachine()) { // si es humano, agregamos listeners y efectos
-                final Card currentCard = card;
-
-                int effect = card.calculateEffect(game.getTableSum());
-                int newSum = game.getTableSum() + effect;
-                boolean isPlayable = (newSum <= 50);
-
-                cardView.setOnMouseClicked(event -> handleCardClick(currentCard, cardView));
-
-                cardView.setOnMouseEntered(event -> {
-                    if (humanTurnActive.get()) {
-                        cardView.setScaleX(1.15);
-                        cardView.setScaleY(1.15);
-
-                        DropShadow glow = new DropShadow();
-                        glow.setRadius(25);
-                        glow.setSpread(0.7);
-                        glow.setColor(isPlayable ? Color.WHITE : Color.RED);
-                        cardView.setEffect(glow);
-                        cardView.setStyle("-fx-cursor: " + (isPlayable ? "hand" : "not-allowed") + ";");
-
-                        javafx.animation.TranslateTransition lift =
-                                new javafx.animation.TranslateTransition(javafx.util.Duration.millis(150), cardView);
-                        lift.setFromY(cardView.getTranslateY());
-                        lift.setToY(-10);
-                        lift.play();
-                    }
-                });
-
-                cardView.setOnMouseExited(event -> {
-                    cardView.setEffect(null);
-                    cardView.setScaleX(1.0);
-                    cardView.setScaleY(1.0);
-                    cardView.setStyle("-fx-cursor: hand;");
-                    // animación de regreso
-                    javafx.animation.TranslateTransition drop =
-                            new javafx.animation.TranslateTransition(javafx.util.Duration.millis(150), cardView);
-                    drop.setFromY(cardView.getTranslateY());
-                    drop.setToY(0);
-                    drop.play();
-                });
-
-                if (!isPlayable && humanTurnActive.get()) {
-                    cardView.setOpacity(0.6);
-                } else {
-                    cardView.setOpacity(1.0);
-                }
-
-                cardViewMap.put(cardView, currentCard);
-            }
-
-            cardContainer.getChildren().add(cardView);
+    private void updateTableSum(GameSnapshot snapshot) {
+        if (tableSumLabel != null) {
+            tableSumLabel.setText("Suma: " + snapshot.getTableSum());
         }
     }
 
     /**
-     * Creates an ImageView for a card.
+     * Updates the card displayed on the table.
      */
-    private ImageView createCardView(Card card, boolean faceUp) {
-        ImageView cardView = new ImageView();
-        if (!faceUp) {
-            cardView.setFitHeight(53.0);
-            cardView.setFitWidth(38.0);
-        } else {
-            cardView.setFitHeight(82.0);
-            cardView.setFitWidth(56.0);
+    private void updateTableCard(GameSnapshot snapshot) {
+        if (tableCardImage != null && snapshot.getTopCard() != null) {
+            cardImages.showFace(tableCardImage, snapshot.getTopCard());
         }
-        cardView.setPreserveRatio(true);
-
-        String imagePath = faceUp
-                ? getCardImagePath(card)
-                : "/com/example/miniproyecto3/images/backcard.png";
-
-        var is = getClass().getResourceAsStream(imagePath);
-        if (is != null) {
-            cardView.setImage(new Image(is));
-        } else {
-            System.err.println("⚠️ No image found: " + imagePath);
-        }
-
-        return cardView;
     }
 
     /**
-     * Clears a player's display when they are eliminated.
+     * Updates the dirty players' hand displays.
+     * Each hand view only touches the cards that changed since the last update.
      */
-    private void clearPlayerDisplay(VBox container) {
-        if (container.getChildren().size() < 2) return;
-
-        HBox cardContainer = (HBox) container.getChildren().get(1);
-        cardContainer.getChildren().clear();
-
-        Label eliminatedLabel = new Label("ELIMINATED");
-        eliminatedLabel.setStyle("-fx-text-fill: #ff0000; -fx-font-size: 16px; -fx-font-weight: bold;");
-        cardContainer.getChildren().add(eliminatedLabel);
-        cardContainer.setAlignment(Pos.CENTER);
+    private void updatePlayerHands(GameSnapshot snapshot, long dirty) {
+        boolean dimBlocked = humanTurnActive.get();
+        int tableSum = snapshot.getTableSum();
+        List<Player> players = game.getPlayers();
+        for (int seat = 0; seat < players.size(); seat++) {
+            HandView handView = handViews.get(players.get(seat));
+            if (handView == null || !RenderScheduler.isHandDirty(dirty, seat)) {
+                continue;
+            }
+            if (!snapshot.isActive(seat)) {
+                handView.showEliminated();
+            } else {
+                handView.render(snapshot.getHand(seat), card -> PlayTable.canPlay(tableSum, card),
+                        dimBlocked && !snapshot.isMachine(seat));
+            }
+        }
     }
 
     /**
-     * Converts a Card to its image file path.
+     * Creates the hand view of a player inside their position on the screen.
      */
-    private String getCardImagePath(Card card) {
-        String symbol = card.getSymbol();
-        String suit = card.getSuit();
-
-        String suitSpanish = switch (suit) {
-            case "Hearts" -> "Corazones";
-            case "Diamonds" -> "Diamantes";
-            case "Clubs" -> "Treboles";
-            case "Spades" -> "Picas";
-            default -> suit;
-        };
-
-        return "/com/example/miniproyecto3/images/cards/" + symbol + suitSpanish + ".png";
+    private void createHandView(Player player, VBox container) {
+        // Buscar el HBox que contiene las cartas dentro del VBox entonces no asumimos indice fijo
+        for (var node : container.getChildren()) {
+            if (node instanceof HBox cardContainer) {
+                cardContainer.getChildren().clear();
+                HandView handView = new HandView(cardContainer, !player.isMachine(), humanTurnActive::get);
+                handView.setOnCardClicked(this::handleCardClick);
+                handViews.put(player, handView);
+                return;
+            }
+        }
+        // No hay HBox dentro del container entonces pues no hay nada que actualizar
+        System.err.println("createHandView: no se encontró HBox en el container para " + player.getName());
     }
 
     /**
@@ -560,10 +509,10 @@ public class CincuentazoGameController {
 
                 if (humanWon) {
                     CincuentazoWinnerStage.getInstance();
-                    System.out.println("Winner: " + winner.getName() + " (Human)");
+                    GameLogger.getDefault().log(LogLevel.INFO, "Winner: {} (Human)", winner.getName());
                 } else {
                     CincuentazoWelcomeStage.getInstance();
-                    System.out.println("Winner: " + winner.getName() + " (Machine)");
+                    GameLogger.getDefault().log(LogLevel.INFO, "Winner: {} (Machine)", winner.getName());
                 }
 
             } catch (IOException e) {
@@ -672,8 +621,9 @@ public class CincuentazoGameController {
      */
     public void shutdown() {
         gameRunning = false;
-        if (gameThread != null && gameThread.isAlive()) {
-            gameThread.interrupt();
+        renders.cancel();
+        if (table != null) {
+            table.stop();
         }
         if (game != null) {
             game.stop();
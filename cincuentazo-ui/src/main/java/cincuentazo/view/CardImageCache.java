@@ -0,0 +1,156 @@
+package cincuentazo.view;
+
+import cincuentazo.model.card.Card;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.WritableImage;
+
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shared cache of the card images.
+ * Every card face and the card back are decoded once, scaled to twice their
+ * on-screen size, and packed into a single atlas: a row per suit, a column per
+ * rank and the back on a fifth row. Card views show their card by pointing an
+ * {@link ImageView} viewport into the atlas, so redrawing a hand never opens a
+ * resource or decodes a PNG, and every stage and game shares the same pixels.
+ */
+public final class CardImageCache {
+
+    private static final String IMAGES = "/com/example/miniproyecto3/images/";
+    private static final String BACK_PATH = IMAGES + "backCard.png";
+
+    /**
+     * Size of a cell of the atlas, twice the largest card view in the game.
+     */
+    private static final int CELL_WIDTH = 112;
+    private static final int CELL_HEIGHT = 168;
+    private static final int BACK_ROW = Card.SUITS.length;
+
+    private final WritableImage atlas;
+    private final Rectangle2D[] faces = new Rectangle2D[Card.DECK_SIZE];
+    private final Rectangle2D back;
+    private final Map<String, Image> others = new ConcurrentHashMap<>(); // non-standard cards
+
+    private CardImageCache() {
+        atlas = new WritableImage(Card.RANKS * CELL_WIDTH, (BACK_ROW + 1) * CELL_HEIGHT);
+        for (Card card : Card.standardDeck()) {
+            int ordinal = card.getOrdinal();
+            faces[ordinal] = pack(getCardImagePath(card), ordinal % Card.RANKS, ordinal / Card.RANKS);
+        }
+        back = pack(BACK_PATH, 0, BACK_ROW);
+    }
+
+    /**
+     * Inner static class to hold the singleton instance (lazy initialization).
+     */
+    private static class Holder {
+        private static final CardImageCache INSTANCE = new CardImageCache();
+    }
+
+    /**
+     * Returns the shared cache, building the atlas on first use.
+     *
+     * @return the single instance of CardImageCache
+     */
+    public static CardImageCache getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Decodes an image at cell size and copies it into the given cell of the atlas.
+     *
+     * @return the viewport of the copied pixels, or null if the image is missing
+     */
+    private Rectangle2D pack(String path, int column, int row) {
+        Image image = decode(path, CELL_WIDTH, CELL_HEIGHT);
+        if (image == null) {
+            return null;
+        }
+        int width = (int) image.getWidth();
+        int height = (int) image.getHeight();
+        int x = column * CELL_WIDTH;
+        int y = row * CELL_HEIGHT;
+        PixelReader pixels = image.getPixelReader();
+        atlas.getPixelWriter().setPixels(x, y, width, height, pixels, 0, 0);
+        return new Rectangle2D(x, y, width, height);
+    }
+
+    private static Image decode(String path, double width, double height) {
+        try (InputStream is = CardImageCache.class.getResourceAsStream(path)) {
+            if (is == null) {
+                System.err.println("⚠️ No image found: " + path);
+                return null;
+            }
+            Image image = new Image(is, width, height, true, true);
+            return image.isError() ? null : image;
+        } catch (Exception e) {
+            System.err.println("Error loading card image: " + path);
+            return null;
+        }
+    }
+
+    /**
+     * Shows the face of a card in the given view.
+     *
+     * @param view the view to update
+     * @param card the card to show
+     */
+    public void showFace(ImageView view, Card card) {
+        if (card.isCanonical()) {
+            show(view, faces[card.getOrdinal()]);
+        } else {
+            Image image = others.computeIfAbsent(getCardImagePath(card), path -> decode(path, CELL_WIDTH, CELL_HEIGHT));
+            view.setViewport(null);
+            view.setImage(image);
+        }
+    }
+
+    /**
+     * Shows the card back in the given view.
+     *
+     * @param view the view to update
+     */
+    public void showBack(ImageView view) {
+        show(view, back);
+    }
+
+    private void show(ImageView view, Rectangle2D viewport) {
+        if (viewport == null) {
+            view.setImage(null);
+            return;
+        }
+        if (view.getImage() != atlas) {
+            view.setImage(atlas);
+        }
+        view.setViewport(viewport);
+    }
+
+    /**
+     * Returns the atlas holding every card face and the back.
+     */
+    public Image getAtlas() {
+        return atlas;
+    }
+
+    /**
+     * Converts a Card to its image file path.
+     *
+     * @param card the card
+     * @return the resource path of the card's face
+     */
+    public static String getCardImagePath(Card card) {
+        String suitSpanish = switch (card.getSuit()) {
+            case "Hearts" -> "Corazones";
+            case "Diamonds" -> "Diamantes";
+            case "Clubs" -> "Treboles";
+            case "Spades" -> "Picas";
+            default -> card.getSuit();
+        };
+        return IMAGES + "cards/" + card.getSymbol() + suitSpanish + ".png";
+    }
+}
@@ -0,0 +1,234 @@
+package cincuentazo.view;
+
+import cincuentazo.model.card.Card;
+import javafx.animation.TranslateTransition;
+import javafx.geometry.Pos;
+import javafx.scene.Node;
+import javafx.scene.control.Label;
+import javafx.scene.effect.DropShadow;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.HBox;
+import javafx.scene.paint.Color;
+import javafx.util.Duration;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
+
+/**
+ * Incremental view of one player's hand inside an {@link HBox}.
+ * Each render compares the new hand with the cards on screen and only removes,
+ * inserts or moves the nodes that changed. Card nodes are pooled and keep their
+ * mouse handlers and hover animation for their whole life, and the hover glows
+ * are two effects shared by every hand, so a turn does not rebuild the scene graph.
+ */
+public class HandView {
+
+    private static final DropShadow PLAYABLE_GLOW = glow(Color.WHITE);
+    private static final DropShadow BLOCKED_GLOW = glow(Color.RED);
+
+    private final HBox container;
+    private final boolean faceUp;
+    private final BooleanSupplier interactive;
+    private final CardImageCache images = CardImageCache.getInstance();
+    private final Map<Card, CardNode> shown = new HashMap<>();
+    private final Deque<CardNode> pool = new ArrayDeque<>();
+    private final Set<Card> present = new HashSet<>(); // scratch set reused by render()
+    private BiConsumer<Card, ImageView> onCardClicked = (card, view) -> { };
+    private Label eliminatedLabel;
+
+    /**
+     * Creates the view of a hand.
+     *
+     * @param container   the box that holds the card nodes
+     * @param faceUp      {@code true} to show the faces (human), {@code false} for backs (CPU)
+     * @param interactive tells whether hovering and clicking should react right now
+     */
+    public HandView(HBox container, boolean faceUp, BooleanSupplier interactive) {
+        this.container = container;
+        this.faceUp = faceUp;
+        this.interactive = interactive;
+    }
+
+    private static DropShadow glow(Color color) {
+        DropShadow glow = new DropShadow();
+        glow.setRadius(25);
+        glow.setSpread(0.7);
+        glow.setColor(color);
+        return glow;
+    }
+
+    /**
+     * Sets what happens when a face-up card is clicked.
+     *
+     * @param onCardClicked receives the card and its node
+     */
+    public void setOnCardClicked(BiConsumer<Card, ImageView> onCardClicked) {
+        this.onCardClicked = onCardClicked;
+    }
+
+    /**
+     * Brings the screen in line with the given hand.
+     *
+     * @param hand     the cards in hand, in order
+     * @param playable tells which cards can be played now
+     * @param dimBlocked {@code true} to dim the cards that cannot be played
+     */
+    public void render(List<Card> hand, Predicate<Card> playable, boolean dimBlocked) {
+        if (eliminatedLabel != null) {
+            container.getChildren().remove(eliminatedLabel);
+        }
+
+        // Drop the nodes of cards that left the hand
+        present.clear();
+        present.addAll(hand);
+        shown.entrySet().removeIf(entry -> {
+            if (present.contains(entry.getKey())) {
+                return false;
+            }
+            container.getChildren().remove(entry.getValue().view);
+            release(entry.getValue());
+            return true;
+        });
+
+        // Insert new cards and move the ones out of place
+        List<Node> children = container.getChildren();
+        for (int i = 0; i < hand.size(); i++) {
+            Card card = hand.get(i);
+            CardNode node = shown.get(card);
+            if (node == null) {
+                node = acquire(card);
+                shown.put(card, node);
+                children.add(Math.min(i, children.size()), node.view);
+            } else if (i >= children.size() || children.get(i) != node.view) {
+                children.remove(node.view);
+                children.add(Math.min(i, children.size()), node.view);
+            }
+            node.playable = playable.test(card);
+            node.view.setOpacity(dimBlocked && !node.playable ? 0.6 : 1.0);
+        }
+    }
+
+    /**
+     * Replaces the hand with an "ELIMINATED" label.
+     */
+    public void showEliminated() {
+        for (CardNode node : shown.values()) {
+            release(node);
+        }
+        shown.clear();
+        if (eliminatedLabel == null) {
+            eliminatedLabel = new Label("ELIMINATED");
+            eliminatedLabel.setStyle("-fx-text-fill: #ff0000; -fx-font-size: 16px; -fx-font-weight: bold;");
+        }
+        container.getChildren().setAll(eliminatedLabel);
+        container.setAlignment(Pos.CENTER);
+    }
+
+    /**
+     * Returns the card shown by a node of this hand, or null.
+     */
+    public Card getCard(ImageView view) {
+        for (CardNode node : shown.values()) {
+            if (node.view == view) {
+                return node.card;
+            }
+        }
+        return null;
+    }
+
+    private CardNode acquire(Card card) {
+        CardNode node = pool.poll();
+        if (node == null) {
+            node = new CardNode();
+        }
+        node.card = card;
+        if (faceUp) {
+            images.showFace(node.view, card);
+        } else {
+            images.showBack(node.view);
+        }
+        return node;
+    }
+
+    private void release(CardNode node) {
+        node.clear();
+        pool.push(node);
+    }
+
+    /**
+     * A pooled card node with its handlers and hover animation.
+     */
+    private final class CardNode {
+        private final ImageView view = new ImageView();
+        private final TranslateTransition lift = new TranslateTransition(Duration.millis(150), view);
+        private Card card;
+        private boolean playable;
+
+        private CardNode() {
+            if (faceUp) {
+                view.setFitHeight(82.0);
+                view.setFitWidth(56.0);
+            } else {
+                view.setFitHeight(53.0);
+                view.setFitWidth(38.0);
+            }
+            view.setPreserveRatio(true);
+            if (faceUp) {
+                view.setOnMouseClicked(event -> {
+                    if (card != null) {
+                        onCardClicked.accept(card, view);
+                    }
+                });
+                view.setOnMouseEntered(event -> hover());
+                view.setOnMouseExited(event -> reset());
+            }
+        }
+
+        private void hover() {
+            if (!interactive.getAsBoolean()) {
+                return;
+            }
+            view.setScaleX(1.15);
+            view.setScaleY(1.15);
+            view.setEffect(playable ? PLAYABLE_GLOW : BLOCKED_GLOW);
+            view.setStyle("-fx-cursor: " + (playable ? "hand" : "not-allowed") + ";");
+            slide(-10);
+        }
+
+        private void reset() {
+            view.setEffect(null);
+            view.setScaleX(1.0);
+            view.setScaleY(1.0);
+            view.setStyle("-fx-cursor: hand;");
+            slide(0);
+        }
+
+        /**
+         * Puts the node back in its resting state, without animating, for the pool.
+         */
+        private void clear() {
+            lift.stop();
+            view.setEffect(null);
+            view.setScaleX(1.0);
+            view.setScaleY(1.0);
+            view.setTranslateY(0);
+            view.setOpacity(1.0);
+            card = null;
+        }
+
+        private void slide(double toY) {
+            lift.stop();
+            lift.setFromY(view.getTranslateY());
+            lift.setToY(toY);
+            lift.play();
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package cincuentazo.view;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Coalesces UI invalidations into at most one redraw per JavaFX pulse.
+ * Any thread marks parts of the screen dirty; the first invalidation after a
+ * flush starts an {@link AnimationTimer}, which on the next pulse takes all the
+ * dirty flags at once, stops itself and hands them to the {@link Renderer}.
+ * However many updates a turn produces, the FX thread redraws once, and an idle
+ * window costs nothing.
+ */
+public class RenderScheduler {
+
+    /**
+     * The table sum label.
+     */
+    public static final long TABLE_SUM = 1L;
+
+    /**
+     * The card on top of the table.
+     */
+    public static final long TOP_CARD = 1L << 1;
+
+    /**
+     * The highlight of the current player.
+     */
+    public static final long HIGHLIGHT = 1L << 2;
+
+    /**
+     * Hands use one flag per seat, from this bit up.
+     */
+    private static final int FIRST_HAND_BIT = 8;
+
+    /**
+     * Every flag.
+     */
+    public static final long ALL = -1L;
+
+    /**
+     * Redraws the dirty parts of the screen, on the FX thread.
+     */
+    @FunctionalInterface
+    public interface Renderer {
+        /**
+         * @param dirty the flags set since the last flush; test hands with {@link #isHandDirty(long, int)}
+         */
+        void render(long dirty);
+    }
+
+    private final Renderer renderer;
+    private final AtomicLong dirty = new AtomicLong();
+    private final AtomicBoolean flushPending = new AtomicBoolean();
+    private final AnimationTimer timer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            flush();
+        }
+    };
+
+    /**
+     * Creates a scheduler.
+     *
+     * @param renderer redraws the dirty parts
+     */
+    public RenderScheduler(Renderer renderer) {
+        this.renderer = renderer;
+    }
+
+    /**
+     * Returns the flag of a seat's hand.
+     *
+     * @param seat the seat index (0 to 55)
+     * @return the flag to pass to {@link #invalidate(long)}
+     */
+    public static long hand(int seat) {
+        return 1L << (FIRST_HAND_BIT + seat);
+    }
+
+    /**
+     * Returns whether a seat's hand is among the dirty flags.
+     */
+    public static boolean isHandDirty(long dirty, int seat) {
+        return (dirty & hand(seat)) != 0;
+    }
+
+    /**
+     * Marks parts of the screen dirty; may be called from any thread.
+     *
+     * @param flags the parts to redraw on the next pulse
+     */
+    public void invalidate(long flags) {
+        dirty.getAndAccumulate(flags, (a, b) -> a | b);
+        if (flushPending.compareAndSet(false, true)) {
+            if (Platform.isFxApplicationThread()) {
+                timer.start();
+            } else {
+                Platform.runLater(timer::start);
+            }
+        }
+    }
+
+    /**
+     * Marks everything dirty.
+     */
+    public void invalidateAll() {
+        invalidate(ALL);
+    }
+
+    /**
+     * Stops any pending flush; later invalidations start a new one.
+     */
+    public void cancel() {
+        timer.stop();
+        dirty.set(0);
+        flushPending.set(false);
+    }
+
+    private void flush() {
+        timer.stop();
+        flushPending.set(false);
+        long flags = dirty.getAndSet(0);
+        if (flags != 0) {
+            renderer.render(flags);
+        }
+    }
+}